@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -23,8 +24,10 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.InventoryStorage;
-import seedu.address.storage.JsonInventoryStorage;
+import seedu.address.storage.JournalInventoryStorage;
+import seedu.address.storage.JsonInventoryFileMigration;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedInventoryStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -56,28 +59,63 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InventoryStorage inventoryStorage = new JsonInventoryStorage(userPrefs.getInventoryFilePath());
+        Optional<Path> jsonInventoryFilePath = initInventoryFilePath(userPrefs, userPrefsStorage);
+        InventoryStorage inventoryStorage = initInventoryStorage(userPrefs);
         storage = new StorageManager(inventoryStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, jsonInventoryFilePath);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Replaces an inventory file path in {@code userPrefs} that names a json file, as set by earlier versions,
+     * by the path of a binary file next to it, and returns the json file path replaced.
+     */
+    private Optional<Path> initInventoryFilePath(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        Optional<Path> jsonInventoryFilePath = JsonInventoryFileMigration.moveInventoryFilePath(userPrefs);
+        if (jsonInventoryFilePath.isPresent()) {
+            try {
+                userPrefsStorage.saveUserPrefs(userPrefs);
+            } catch (IOException e) {
+                logger.warning("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+        }
+        return jsonInventoryFilePath;
+    }
+
+    /**
+     * Returns the storage for the inventory file in {@code userPrefs}, split into shards if {@code userPrefs} sets
+     * a positive number of shards.
+     */
+    private InventoryStorage initInventoryStorage(ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getInventoryShardCount() > 0) {
+            return new ShardedInventoryStorage(userPrefs.getInventoryFilePath(), userPrefs.getInventoryShardCount());
+        }
+        return new JournalInventoryStorage(userPrefs.getInventoryFilePath(),
+                JournalInventoryStorage.DEFAULT_COMPACTION_SIZE, JournalInventoryStorage.DEFAULT_COMPACTION_AGE,
+                userPrefs.isInventoryLazyBatchLoading());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s inventory and {@code userPrefs}. <br>
+     * The inventory in the json file at {@code jsonInventoryFilePath}, if present, is moved to {@code storage} if
+     * {@code storage} has no inventory yet. <br>
      * The data from the sample inventory will be used instead if {@code storage}'s inventory is not found,
      * or an empty inventory will be used instead if errors occur when reading {@code storage}'s inventory.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            Optional<Path> jsonInventoryFilePath) {
         Optional<ReadOnlyInventory> inventoryOptional;
         ReadOnlyInventory initialData;
         try {
-            inventoryOptional = storage.readInventory();
+            inventoryOptional = jsonInventoryFilePath.isPresent()
+                    ? JsonInventoryFileMigration.readInventory(storage, jsonInventoryFilePath.get())
+                    : storage.readInventory();
             if (!inventoryOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample inventory");
             }
@@ -174,11 +212,32 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping MediTabs ] =============================");
+        try {
+            logic.flushInventory();
+        } catch (IOException e) {
+            logger.severe("Failed to save inventory " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        stopExports();
+        model.closeUndoHistory();
+    }
+
+    /**
+     * Cancels the exports that are queued or running and waits for them to stop, so that their partially written
+     * files are removed before the application exits.
+     */
+    private void stopExports() {
+        model.getExportJobManager().cancelAll();
+        try {
+            model.getExportJobManager().awaitCompletion();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while stopping exports, partially exported files may remain");
+            Thread.currentThread().interrupt();
+        }
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,65 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the limits of the undo/redo history.
+ * Guarantees: immutable.
+ */
+public class UndoHistorySettings implements Serializable {
+
+    public static final int DEFAULT_MAX_UNDO_DEPTH = 1000;
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 32L * 1024 * 1024;
+
+    /** Maximum number of commands that can be undone. Older states are discarded. */
+    private final int maxUndoDepth;
+    /** Estimated heap space the history may use before older states are moved to the disk journal. */
+    private final long maxMemoryBytes;
+
+    public UndoHistorySettings() {
+        maxUndoDepth = DEFAULT_MAX_UNDO_DEPTH;
+        maxMemoryBytes = DEFAULT_MAX_MEMORY_BYTES;
+    }
+
+    public UndoHistorySettings(int maxUndoDepth, long maxMemoryBytes) {
+        this.maxUndoDepth = maxUndoDepth;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    public int getMaxUndoDepth() {
+        return maxUndoDepth;
+    }
+
+    public long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoHistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        UndoHistorySettings o = (UndoHistorySettings) other;
+
+        return maxUndoDepth == o.maxUndoDepth
+                && maxMemoryBytes == o.maxMemoryBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxUndoDepth, maxMemoryBytes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max Undo Depth : " + maxUndoDepth + "\n");
+        sb.append("Max Memory Bytes : " + maxMemoryBytes);
+        return sb.toString();
+    }
+}
@@ -2,26 +2,27 @@ package seedu.address.commons.util.csv;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Date;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
 
 import com.opencsv.CSVWriter;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.medicine.Batch;
-import seedu.address.model.medicine.Expiry;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.tag.Tag;
 
@@ -30,7 +31,7 @@ import seedu.address.model.tag.Tag;
  * It uses Opencsv library from http://opencsv.sourceforge.net/index.html
  *
  */
-public class CsvWrapper {
+public class CsvWrapper implements Exporter {
 
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not export data to csv file: ";
     public static final String DEFAULT_EXPIRING_SOON_NOTIFICATION = "[EXPIRING SOON]";
@@ -52,30 +53,39 @@ public class CsvWrapper {
     private static final String DEFAULT_EXPORT_FOLDER_NAME = "exported";
     private static final Path DEFAULT_EXPORT_FOLDER_PATH = Paths.get(DEFAULT_EXPORT_FOLDER_NAME);
     private String csvFileName;
-    private Model model;
     private Path csvFilePath;
+    private final List<Medicine> currentGuiList;
+    private final List<Medicine> lowStockMedicinesList;
+    private final LocalDate latestExpiringSoonDate;
 
+    /**
+     * Creates a CsvWrapper that exports the current list in the GUI to a csv file named {@code csvFileName}.
+     * The current list is copied, so the export is unaffected by later changes to the model.
+     */
     public CsvWrapper(String csvFileName, Model model) {
         requireNonNull(csvFileName);
         requireNonNull(model);
         this.csvFileName = csvFileName;
-        this.model = model;
+        currentGuiList = new ArrayList<>(model.getFilteredMedicineList());
+        lowStockMedicinesList = new ArrayList<>(model.getLowStockMedicinesList());
+        latestExpiringSoonDate =
+                model.getWarningPanelPredicateAccessor().getBatchExpiryPredicate().getLatestExpiryDate();
     }
 
-    /**
-     * Exports the current list in the GUI to a csv file.
-     * @throws CommandException If there is an error exporting the current list in the GUI to a csv file.
-     */
-    public void export() throws CommandException {
-        try {
-            List<Medicine> currentGuiList = model.getFilteredMedicineList();
-            List<Medicine> lowStockMedicinesList = model.getLowStockMedicinesList();
-            createCsvFile(csvFileName);
-            writeDataToCsv(currentGuiList, lowStockMedicinesList);
-        } catch (CommandException ce) {
-            doCleanUp();
-            throw ce;
-        }
+    @Override
+    public void createFile() throws CommandException {
+        createCsvFile(csvFileName);
+    }
+
+    @Override
+    public boolean writeData(RowListener rowListener) throws CommandException {
+        requireNonNull(rowListener);
+        return writeDataToCsv(rowListener);
+    }
+
+    @Override
+    public String getExportedFileName() {
+        return csvFileName + ".csv";
     }
 
     /**
@@ -84,18 +94,29 @@ public class CsvWrapper {
      * @throws CommandException If there are errors creating the .csv file.
      */
     private void createCsvFile(String csvFileName) throws CommandException {
+        csvFilePath = createExportFile(csvFileName, ".csv");
+    }
+
+    /**
+     * Creates a file in the export directory based on the input file name and file extension.
+     * @param fileName The input file name, without its file extension.
+     * @param fileExtension The file extension, including the leading dot.
+     * @return The path of the file created.
+     * @throws CommandException If there are errors creating the file.
+     */
+    public static Path createExportFile(String fileName, String fileExtension) throws CommandException {
         createIfExportDirectoryMissing();
         try {
-            if (csvFileName.length() > MAX_FILE_NAME_LENGTH) {
+            if (fileName.length() > MAX_FILE_NAME_LENGTH) {
                 throw new CommandException((FILE_OPS_ERROR_MESSAGE + "The file name is too long, try to reduce"
                         + " the specified file name length to be within 255 characters.\n"
                         + "Note: This is just a standardise file name length and a FileSystemException exception might"
                         + " still occur during file creation depending on your current"
                         + " operating system's file system."));
             }
-            csvFilePath = Files.createFile(Paths.get(DEFAULT_EXPORT_FOLDER_NAME, csvFileName + ".csv"));
+            return Files.createFile(Paths.get(DEFAULT_EXPORT_FOLDER_NAME, fileName + fileExtension));
         } catch (FileAlreadyExistsException fae) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + csvFileName + ".csv" + " already exists in \""
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + fileName + fileExtension + " already exists in \""
                     + DEFAULT_EXPORT_FOLDER_NAME + "\" directory.");
         } catch (FileSystemException fse) {
             throw new CommandException((FILE_OPS_ERROR_MESSAGE + fse.getClass().getName() + ": " + fse.getReason()
@@ -107,16 +128,27 @@ public class CsvWrapper {
     }
 
     /**
-     * Cleans up empty csv that is created in the exported directory if an error occurs.
+     * Cleans up the csv file that is created in the exported directory if an error occurs or the export is cancelled.
      * If csvFilePath is null, return as there is no file to clean up.
-     * @throws CommandException If there is an error cleaning up the empty csv file created.
+     * @throws CommandException If there is an error cleaning up the csv file created.
      */
-    private void doCleanUp() throws CommandException {
-        if (csvFilePath == null) {
+    @Override
+    public void doCleanUp() throws CommandException {
+        deleteExportFile(csvFilePath);
+    }
+
+    /**
+     * Deletes the exported file at the input path if it exists.
+     * If the path is null, return as there is no file to delete.
+     * @param exportFilePath The path of the exported file.
+     * @throws CommandException If there is an error deleting the file.
+     */
+    public static void deleteExportFile(Path exportFilePath) throws CommandException {
+        if (exportFilePath == null) {
             return;
         }
         try {
-            Files.deleteIfExists(csvFilePath);
+            Files.deleteIfExists(exportFilePath);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -129,23 +161,34 @@ public class CsvWrapper {
      * Medicines with no batches, in other words, just added or initialised without any batches linked to it,
      * it will be ignored and not written in the csv file. This is due to the fact that there is no useful information
      * to be compiled to the csv file for those medicines without any batches.
-     * @param currentGuiList The current list displayed in the GUI when the export command is called.
-     * @param lowQuantityMedicineList The list of low quantity medicines (Medicines with low stock)
+     * Each row is written as soon as it is built, and its notifications are worked out in constant time.
+     * Batches expiring before the date the export is made on are expired.
+     * @param rowListener The listener told of each row of data written, which can stop the export.
+     * @return Whether every row was written.
      * @throws CommandException If there is an error exporting the current list in the GUI to a csv file.
      */
-    private void writeDataToCsv(List currentGuiList, List lowQuantityMedicineList) throws CommandException {
-        try (CSVWriter csvWriter = new CSVWriter(new FileWriter(csvFilePath.toString()))) {
+    private boolean writeDataToCsv(RowListener rowListener) throws CommandException {
+        LocalDate today = LocalDate.now();
+        Set<Medicine> lowQuantityMedicines = Collections.newSetFromMap(new IdentityHashMap<>());
+        lowQuantityMedicines.addAll(lowStockMedicinesList);
+        long rowsWritten = 0;
+        try (CSVWriter csvWriter = new CSVWriter(Files.newBufferedWriter(csvFilePath, StandardCharsets.UTF_8))) {
             csvWriter.writeNext(defaultHeading);
-            Iterator iterator = currentGuiList.listIterator();
-            while (iterator.hasNext()) {
-                Medicine current = (Medicine) iterator.next();
+            for (Medicine current : currentGuiList) {
                 if (isMedicineInitialised(current) == false) {
                     continue;
                 }
-                List<String[]> medicineDataStringArray = processMedicineData(current, isMedicineLowQuantity(current,
-                        lowQuantityMedicineList));
-                csvWriter.writeAll(medicineDataStringArray);
+                boolean isMedicineLowQuantity = lowQuantityMedicines.contains(current);
+                String tags = formatTags(current);
+                for (Batch batch : current.getBatches().values()) {
+                    csvWriter.writeNext(buildStringArray(current, tags, batch, isMedicineLowQuantity,
+                            getExpiryNotification(batch, today, latestExpiringSoonDate)));
+                    if (!rowListener.onRowWritten(++rowsWritten)) {
+                        return false;
+                    }
+                }
             }
+            return true;
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -155,7 +198,7 @@ public class CsvWrapper {
      * Creates the export directory if export directory where exported data are stored.
      * @throws CommandException if there are errors creating the export directory.
      */
-    private void createIfExportDirectoryMissing() throws CommandException {
+    private static void createIfExportDirectoryMissing() throws CommandException {
         if (Files.isDirectory(DEFAULT_EXPORT_FOLDER_PATH) == false && Files.exists(DEFAULT_EXPORT_FOLDER_PATH)) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + "an \"" + DEFAULT_EXPORT_FOLDER_NAME + "\" file without"
                     + " any file extension already exists and it is not a directory. "
@@ -186,121 +229,68 @@ public class CsvWrapper {
     }
 
     /**
-     * Returns a list batch of the input medicine that are expiring soon.
-     * Note: It returns an empty list of the input medicine does not have any batches that is expiring soon.
-     * @param medicine The input medicine .
-     * @return Returns a list batch of the input medicine that are expiring soon.
-     * It returns an empty list of the input medicine does not have any batches that is expiring soon.
-     */
-    private List<Batch> getListOfBatchExpiringSoon(Medicine medicine) {
-        return medicine.getFilteredBatch(model.getWarningPanelPredicateAccessor().getBatchExpiryPredicate());
-    }
-
-    /**
-     * Returns true if the input medicine is in the input list of lowQuantityMedicineList else returns false.
-     * @param medicine The input medicine.
-     * @param lowQuantityMedicineList The list of medicines which are low in quantity/low in stock.
-     * @return Returns true if the input medicine is in the input list of lowQuantityMedicineList else returns false.
-     */
-    private boolean isMedicineLowQuantity(Medicine medicine, List lowQuantityMedicineList) {
-        return lowQuantityMedicineList.contains(medicine);
-    }
-
-    /**
-     * Returns true if the input medicine batch is expired else returns false.
-     * Note: A medicine batch is considered expired if the current date is greater than or equal to the medicine
-     * batch expiry date.
+     * Returns the expiry notification of the input batch, or an empty string if it is not expiring soon.
+     * Note: A medicine batch is considered expired if the current date is after the medicine batch expiry date.
+     * A batch without an expiry date is considered expired.
      * @param batch The input medicine batch.
-     * @return Returns true if the input medicine batch is expired else returns false.
+     * @param today The current date.
+     * @param latestExpiringSoonDate The latest expiry date of a batch that is expiring soon.
+     * @return Returns the expiry notification of the input batch.
      */
-    private boolean isMedicineBatchExpired(Batch batch) {
-        Expiry currentMedicineBatchExpiry = batch.getExpiry();
-        Expiry currentDate;
-        SimpleDateFormat currentDataAndTimeFormat = new SimpleDateFormat("dd/MM/yyyy");
-        String currentDateString = currentDataAndTimeFormat.format(new Date());
-        currentDate = new Expiry(currentDateString);
-        if (currentDate.compareTo(currentMedicineBatchExpiry) >= 1) {
-            return true;
-        } else {
-            return false;
+    private static String getExpiryNotification(Batch batch, LocalDate today, LocalDate latestExpiringSoonDate) {
+        LocalDate expiryDate = batch.getExpiry().getExpiryDate();
+        if (expiryDate == null || today.isAfter(expiryDate)) {
+            return DEFAULT_EXPIRED_NOTIFICATION;
         }
+        if (!expiryDate.isAfter(latestExpiringSoonDate)) {
+            return DEFAULT_EXPIRING_SOON_NOTIFICATION;
+        }
+        return "";
     }
 
     /**
-     * Processes the input medicine data and returns a List of String Array
-     * representation of the input medicine data for writing to csv file.
+     * Returns the tags of the input medicine in upper case, separated by spaces.
      * @param medicine The input medicine.
-     * @param isMedicineLowQuantity The input medicine low quantity status: It is true, if it is low stock else
-     *                              it is false.
-     * @return Returns a list of String Array containing the input medicine data for writing to csv file.
+     * @return Returns the tags of the input medicine in upper case, separated by spaces.
      */
-    private List<String[]> processMedicineData(Medicine medicine, boolean isMedicineLowQuantity) {
-        List<String[]> result = new ArrayList<>();
-        Collection<Batch> batches = medicine.getBatches().values();
-        Iterator iterator = batches.iterator();
-        while (iterator.hasNext()) {
-            Batch currentBatch = (Batch) iterator.next();
-            String[] currentData = buildStringArray(medicine, currentBatch, isMedicineLowQuantity);
-            result.add(currentData);
+    private static String formatTags(Medicine medicine) {
+        StringJoiner tags = new StringJoiner(" ");
+        for (Tag tag : medicine.getTags()) {
+            tags.add(tag.toStringUpperCase());
         }
-        return result;
+        return tags.toString();
     }
 
     /**
      * Builds a String Array containing detailed information of the medicine
-     * which will be written to the csv file.
+     * which will be written to the csv file. Empty fields at the end of the row are left out.
      * @param medicine The input medicine.
+     * @param tags The formatted tags of the input medicine.
      * @param batch The input batch of the input medicine.
      * @param isMedicineLowQuantity The input medicine low quantity status: It is true, if it is low stock else
      *                              it is false.
+     * @param expiryNotification The expiry notification of the input batch, which may be empty.
      * @return A String Array containing detailed information of the medicine.
      */
-    private String[] buildStringArray(Medicine medicine, Batch batch, boolean isMedicineLowQuantity) {
-        final StringBuilder builder = new StringBuilder();
-        String delimiter = "|";
-        List<Batch> listOfBatchesExpiringSoon = getListOfBatchExpiringSoon(medicine);
-        String[] result;
-        builder.append(medicine.getName())
-                .append(delimiter)
-                .append(batch.getBatchNumber())
-                .append(delimiter)
-                .append(batch.getQuantity())
-                .append(delimiter)
-                .append(batch.getExpiry())
-                .append(delimiter)
-                .append(medicine.getCompany())
-                .append(delimiter);
-        Iterator iterator = medicine.getTags().iterator();
-        while (iterator.hasNext()) {
-            Tag current = (Tag) iterator.next();
-            String formattedCurrentTagString = current.toStringUpperCase();
-            builder.append(formattedCurrentTagString);
-            if (iterator.hasNext()) {
-                builder.append(' ');
-            }
-        }
-        builder.append(delimiter);
+    private static String[] buildStringArray(Medicine medicine, String tags, Batch batch,
+            boolean isMedicineLowQuantity, String expiryNotification) {
+        String notifications;
         if (isMedicineLowQuantity) {
-            builder.append(DEFAULT_LOW_STOCK_NOTIFICATION);
-            if (listOfBatchesExpiringSoon.contains(batch)) {
-                builder.append(' ');
-                if (isMedicineBatchExpired(batch)) {
-                    builder.append(DEFAULT_EXPIRED_NOTIFICATION);
-                } else {
-                    builder.append(DEFAULT_EXPIRING_SOON_NOTIFICATION);
-                }
-            }
+            notifications = expiryNotification.isEmpty()
+                    ? DEFAULT_LOW_STOCK_NOTIFICATION
+                    : DEFAULT_LOW_STOCK_NOTIFICATION + ' ' + expiryNotification;
         } else {
-            if (listOfBatchesExpiringSoon.contains(batch)) {
-                if (isMedicineBatchExpired(batch)) {
-                    builder.append(DEFAULT_EXPIRED_NOTIFICATION);
-                } else {
-                    builder.append(DEFAULT_EXPIRING_SOON_NOTIFICATION);
-                }
-            }
+            notifications = expiryNotification;
+        }
+
+        String[] result = {medicine.getName().toString(), batch.getBatchNumber().toString(),
+            batch.getQuantity().toString(), batch.getExpiry().toString(), medicine.getCompany().toString(), tags,
+            notifications};
+        int length = result.length;
+        while (length > 0 && result[length - 1].isEmpty()) {
+            length--;
         }
-        result = builder.toString().split("\\|");
-        return result;
+        return length == result.length ? result : Arrays.copyOf(result, length);
     }
 
     public static String[] getDefaultHeading() {
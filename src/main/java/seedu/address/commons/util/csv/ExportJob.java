@@ -0,0 +1,152 @@
+package seedu.address.commons.util.csv;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * An export that writes a snapshot of medicines in the background, reporting its progress as it goes.
+ * A job can be cancelled until it finishes writing, in which case its partially written file is removed.
+ */
+public class ExportJob {
+
+    /** The progress of an export is reported each time the rows written pass a multiple of this number. */
+    public static final int PROGRESS_REPORT_INTERVAL_ROWS = 1000;
+    /** The progress of an export is also reported when rows are written this long after the last report. */
+    public static final long PROGRESS_REPORT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final Logger logger = LogsCenter.getLogger(ExportJob.class);
+
+    private final Exporter exporter;
+    private final Consumer<ExportStatus> statusListener;
+    private volatile boolean isCancelled;
+    private boolean isFinished;
+    private long startNanos;
+    private long lastReportedRows;
+    private long lastReportNanos;
+
+    /**
+     * Creates a job that writes the data of {@code exporter} to the file it has created, and reports its progress
+     * to {@code statusListener} on the thread running it.
+     */
+    ExportJob(Exporter exporter, Consumer<ExportStatus> statusListener) {
+        requireAllNonNull(exporter, statusListener);
+        this.exporter = exporter;
+        this.statusListener = statusListener;
+    }
+
+    /**
+     * Returns the name of the file exported to, including its file extension.
+     */
+    public String getFileName() {
+        return exporter.getExportedFileName();
+    }
+
+    /**
+     * Cancels this job if it has not finished writing.
+     * @return Whether the job was cancelled.
+     */
+    public synchronized boolean cancel() {
+        if (isFinished) {
+            return false;
+        }
+        isCancelled = true;
+        return true;
+    }
+
+    /**
+     * Writes the csv file, removing it if the job is cancelled or fails.
+     */
+    void run() {
+        startNanos = System.nanoTime();
+        lastReportNanos = startNanos;
+        long[] rowsWritten = {0};
+        statusListener.accept(ExportStatus.running(getFileName(), getRowUnit(), 0, 0));
+        try {
+            boolean isCompleted = !isCancelled && exporter.writeData(rows -> {
+                rowsWritten[0] = rows;
+                return onRowWritten(rows);
+            });
+            if (isCompleted && markFinished()) {
+                statusListener.accept(ExportStatus.completed(getFileName(), getRowUnit(), rowsWritten[0],
+                        getElapsedNanos()));
+                return;
+            }
+            cleanUp();
+            statusListener.accept(ExportStatus.cancelled(getFileName(), getRowUnit(), rowsWritten[0],
+                    getElapsedNanos()));
+        } catch (CommandException ce) {
+            fail(rowsWritten[0], ce.getMessage());
+        } catch (RuntimeException re) {
+            logger.warning("Export to " + getFileName() + " failed unexpectedly: " + StringUtil.getDetails(re));
+            fail(rowsWritten[0], re.toString());
+        }
+    }
+
+    /**
+     * Marks this job as finished, removes its file and reports that it failed with the error message
+     * {@code failure}.
+     */
+    private void fail(long rowsWritten, String failure) {
+        markFinished();
+        cleanUp();
+        statusListener.accept(ExportStatus.failed(getFileName(), getRowUnit(), rowsWritten, getElapsedNanos(),
+                failure));
+    }
+
+    /**
+     * Reports the progress of the export if the rows written have passed a multiple of
+     * {@code PROGRESS_REPORT_INTERVAL_ROWS} since the last report, or if the last report was at least
+     * {@code PROGRESS_REPORT_INTERVAL_NANOS} ago. Exporters may report several rows at once.
+     * @return Whether to carry on writing.
+     */
+    private boolean onRowWritten(long rowsWritten) {
+        long nowNanos = System.nanoTime();
+        boolean isIntervalPassed = rowsWritten / PROGRESS_REPORT_INTERVAL_ROWS
+                != lastReportedRows / PROGRESS_REPORT_INTERVAL_ROWS;
+        if (isIntervalPassed || nowNanos - lastReportNanos >= PROGRESS_REPORT_INTERVAL_NANOS) {
+            statusListener.accept(ExportStatus.running(getFileName(), getRowUnit(), rowsWritten,
+                    nowNanos - startNanos));
+            lastReportedRows = rowsWritten;
+            lastReportNanos = nowNanos;
+        }
+        return !isCancelled;
+    }
+
+    /**
+     * Marks this job as finished unless it has been cancelled.
+     * @return Whether the job was marked as finished.
+     */
+    private synchronized boolean markFinished() {
+        if (isCancelled) {
+            return false;
+        }
+        isFinished = true;
+        return true;
+    }
+
+    /**
+     * Removes the file of this job, logging any error in doing so.
+     */
+    private void cleanUp() {
+        try {
+            exporter.doCleanUp();
+        } catch (CommandException ce) {
+            logger.warning("Could not remove partially exported file " + getFileName() + ": " + ce.getMessage());
+        }
+    }
+
+    private String getRowUnit() {
+        return exporter.getRowUnit();
+    }
+
+    private long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.commons.util.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Runs exports one at a time on a background thread, so that commands do not wait for exported files to be
+ * written. Exports submitted while another is running are queued.
+ */
+public class ExportJobManager {
+
+    private final ExecutorService exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Consumer<ExportStatus>> statusListeners = new CopyOnWriteArrayList<>();
+
+    /** The jobs that are queued or running, in the order they were submitted. */
+    private final Set<ExportJob> unfinishedJobs = new LinkedHashSet<>();
+
+    /** The most recently submitted job. */
+    private volatile Future<?> lastJob = CompletableFuture.completedFuture(null);
+
+    /**
+     * Adds a listener that is told of the progress of each export on the background thread.
+     */
+    public void addStatusListener(Consumer<ExportStatus> statusListener) {
+        requireNonNull(statusListener);
+        statusListeners.add(statusListener);
+    }
+
+    /**
+     * Queues an export writing the data of {@code exporter} to the file it has created.
+     */
+    public ExportJob submit(Exporter exporter) {
+        requireNonNull(exporter);
+        ExportJob job = new ExportJob(exporter, this::reportStatus);
+        synchronized (unfinishedJobs) {
+            unfinishedJobs.add(job);
+        }
+        lastJob = exportExecutor.submit(() -> {
+            try {
+                job.run();
+            } finally {
+                synchronized (unfinishedJobs) {
+                    unfinishedJobs.remove(job);
+                }
+            }
+        });
+        return job;
+    }
+
+    /**
+     * Cancels every export that is queued or running.
+     * @return The exports that were cancelled, in the order they were submitted.
+     */
+    public List<ExportJob> cancelAll() {
+        List<ExportJob> cancelledJobs = new ArrayList<>();
+        synchronized (unfinishedJobs) {
+            for (ExportJob job : unfinishedJobs) {
+                if (job.cancel()) {
+                    cancelledJobs.add(job);
+                }
+            }
+        }
+        return cancelledJobs;
+    }
+
+    /**
+     * Blocks until every submitted export has finished.
+     */
+    public void awaitCompletion() throws InterruptedException {
+        try {
+            lastJob.get();
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    /**
+     * Tells every status listener of {@code status}.
+     */
+    private void reportStatus(ExportStatus status) {
+        statusListeners.forEach(listener -> listener.accept(status));
+    }
+}
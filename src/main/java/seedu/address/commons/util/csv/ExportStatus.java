@@ -0,0 +1,144 @@
+package seedu.address.commons.util.csv;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The progress of an export running in the background.
+ * Guarantees: immutable.
+ */
+public class ExportStatus {
+
+    /**
+     * The states an export can be in.
+     */
+    public enum State {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final State state;
+    private final String fileName;
+    private final String rowUnit;
+    private final long rowsWritten;
+    private final long elapsedNanos;
+    private final String failure;
+
+    private ExportStatus(State state, String fileName, String rowUnit, long rowsWritten, long elapsedNanos,
+            String failure) {
+        requireNonNull(fileName);
+        requireNonNull(rowUnit);
+        this.state = state;
+        this.fileName = fileName;
+        this.rowUnit = rowUnit;
+        this.rowsWritten = rowsWritten;
+        this.elapsedNanos = elapsedNanos;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the status of an export to {@code fileName} that has written {@code rowsWritten} rows, called
+     * {@code rowUnit}, in {@code elapsedNanos} nanoseconds so far.
+     */
+    public static ExportStatus running(String fileName, String rowUnit, long rowsWritten, long elapsedNanos) {
+        return new ExportStatus(State.RUNNING, fileName, rowUnit, rowsWritten, elapsedNanos, null);
+    }
+
+    /**
+     * Returns the status of an export to {@code fileName} that wrote {@code rowsWritten} rows, called
+     * {@code rowUnit}, in {@code elapsedNanos} nanoseconds.
+     */
+    public static ExportStatus completed(String fileName, String rowUnit, long rowsWritten, long elapsedNanos) {
+        return new ExportStatus(State.COMPLETED, fileName, rowUnit, rowsWritten, elapsedNanos, null);
+    }
+
+    /**
+     * Returns the status of an export to {@code fileName} that was cancelled after writing {@code rowsWritten} rows.
+     */
+    public static ExportStatus cancelled(String fileName, String rowUnit, long rowsWritten, long elapsedNanos) {
+        return new ExportStatus(State.CANCELLED, fileName, rowUnit, rowsWritten, elapsedNanos, null);
+    }
+
+    /**
+     * Returns the status of an export to {@code fileName} that failed with the error message {@code failure}.
+     */
+    public static ExportStatus failed(String fileName, String rowUnit, long rowsWritten, long elapsedNanos,
+            String failure) {
+        requireNonNull(failure);
+        return new ExportStatus(State.FAILED, fileName, rowUnit, rowsWritten, elapsedNanos, failure);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the name of the file exported to, including its file extension.
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns the plural name of the rows written, such as "rows" or "labels".
+     */
+    public String getRowUnit() {
+        return rowUnit;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of rows written per second, or 0 if no time has elapsed.
+     */
+    public long getRowsPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return rowsWritten * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the error message the export failed with, if it failed.
+     */
+    public Optional<String> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportStatus)) {
+            return false;
+        }
+        ExportStatus otherStatus = (ExportStatus) other;
+        return state == otherStatus.state
+                && fileName.equals(otherStatus.fileName)
+                && rowUnit.equals(otherStatus.rowUnit)
+                && rowsWritten == otherStatus.rowsWritten
+                && elapsedNanos == otherStatus.elapsedNanos
+                && Objects.equals(failure, otherStatus.failure);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, fileName, rowUnit, rowsWritten, elapsedNanos, failure);
+    }
+
+    @Override
+    public String toString() {
+        return state + " " + fileName + ": " + rowsWritten + " " + rowUnit + " (" + getRowsPerSecond() + " "
+                + rowUnit + "/s)"
+                + getFailure().map(message -> ": " + message).orElse("");
+    }
+}
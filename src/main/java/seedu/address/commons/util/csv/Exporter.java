@@ -0,0 +1,59 @@
+package seedu.address.commons.util.csv;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Exports medicines to a file in the exported directory, in a format decided by the implementation.
+ * The file is created first, so that errors in creating it can be reported straight away, and then written,
+ * possibly on another thread.
+ */
+public interface Exporter {
+
+    String DEFAULT_ROW_UNIT = "rows";
+
+    /**
+     * Listens to the rows written to an exported file.
+     */
+    interface RowListener {
+        /**
+         * Called after each row of data is written, with the number of rows of data written so far.
+         * @return Whether to carry on writing.
+         */
+        boolean onRowWritten(long rowsWritten);
+    }
+
+    /**
+     * Returns the name of the exported file, including its file extension.
+     */
+    String getExportedFileName();
+
+    /**
+     * Returns the plural name of the rows of data written, such as "rows" or "labels", used to show the progress
+     * of the export.
+     */
+    default String getRowUnit() {
+        return DEFAULT_ROW_UNIT;
+    }
+
+    /**
+     * Creates the file to export to.
+     * @throws CommandException If there are errors creating the file.
+     */
+    void createFile() throws CommandException;
+
+    /**
+     * Writes the medicines to the file created by {@link #createFile()}, stopping early if {@code rowListener}
+     * asks to.
+     * The file is left as it is if writing stops early or fails, and should be removed with {@link #doCleanUp()}.
+     * @param rowListener The listener told of each row of data written.
+     * @return Whether every row was written.
+     * @throws CommandException If there is an error writing the file.
+     */
+    boolean writeData(RowListener rowListener) throws CommandException;
+
+    /**
+     * Removes the file created by {@link #createFile()}, if any.
+     * @throws CommandException If there is an error removing the file.
+     */
+    void doCleanUp() throws CommandException;
+}
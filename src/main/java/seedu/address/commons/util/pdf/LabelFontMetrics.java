@@ -0,0 +1,135 @@
+package seedu.address.commons.util.pdf;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+/**
+ * Measures and word-wraps text in a font at a fixed size, looking up the width of each character in the font once.
+ * Text is measured a character at a time, so wrapping a line does not copy it again for each word.
+ * Not thread-safe.
+ */
+class LabelFontMetrics {
+
+    private static final int CACHED_CHARACTERS = 256;
+
+    private final PDFont font;
+    private final float fontSize;
+    /** The widths of the first characters, or NaN if not looked up yet. */
+    private final float[] characterWidths = new float[CACHED_CHARACTERS];
+    private final Map<Character, Float> otherCharacterWidths = new HashMap<>();
+
+    LabelFontMetrics(PDFont font, float fontSize) {
+        requireNonNull(font);
+        this.font = font;
+        this.fontSize = fontSize;
+        Arrays.fill(characterWidths, Float.NaN);
+    }
+
+    /**
+     * Returns the width of the characters of {@code text} from {@code start} inclusive to {@code end} exclusive.
+     */
+    float getWidth(String text, int start, int end) throws IOException {
+        float width = 0;
+        for (int i = start; i < end; i++) {
+            width += getCharacterWidth(text.charAt(i));
+        }
+        return width;
+    }
+
+    /**
+     * Splits {@code text} into lines no wider than {@code maxWidth}, breaking lines at spaces and at each line break
+     * in {@code text}. A word wider than {@code maxWidth} is broken between characters, and a character wider than
+     * {@code maxWidth} is put on a line of its own.
+     */
+    List<String> wrap(String text, float maxWidth) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String paragraph : text.split("\n")) {
+            wrapParagraph(paragraph, maxWidth, lines);
+        }
+        return lines;
+    }
+
+    /**
+     * Adds the lines {@code paragraph}, which has no line breaks, is split into by {@link #wrap} to {@code lines}.
+     * The spaces kept between the words of a line are measured as they are, however many there are.
+     */
+    private void wrapParagraph(String paragraph, float maxWidth, List<String> lines) throws IOException {
+        int length = paragraph.length();
+        int lineStart = -1;
+        int lineEnd = -1;
+        float lineWidth = 0;
+        int wordStart = 0;
+        while (wordStart < length) {
+            if (paragraph.charAt(wordStart) == ' ') {
+                wordStart++;
+                continue;
+            }
+            int wordEnd = paragraph.indexOf(' ', wordStart);
+            if (wordEnd < 0) {
+                wordEnd = length;
+            }
+            float wordWidth = getWidth(paragraph, wordStart, wordEnd);
+            if (lineStart >= 0) {
+                float widthWithWord = lineWidth + getWidth(paragraph, lineEnd, wordStart) + wordWidth;
+                if (widthWithWord <= maxWidth) {
+                    lineWidth = widthWithWord;
+                    lineEnd = wordEnd;
+                    wordStart = wordEnd;
+                    continue;
+                }
+                lines.add(paragraph.substring(lineStart, lineEnd));
+            }
+
+            while (wordWidth > maxWidth && wordEnd - wordStart > 1) {
+                int breakEnd = wordStart + 1;
+                float breakWidth = getCharacterWidth(paragraph.charAt(wordStart));
+                while (breakEnd < wordEnd && breakWidth + getCharacterWidth(paragraph.charAt(breakEnd)) <= maxWidth) {
+                    breakWidth += getCharacterWidth(paragraph.charAt(breakEnd));
+                    breakEnd++;
+                }
+                lines.add(paragraph.substring(wordStart, breakEnd));
+                wordStart = breakEnd;
+                wordWidth = getWidth(paragraph, wordStart, wordEnd);
+            }
+            lineStart = wordStart;
+            lineEnd = wordEnd;
+            lineWidth = wordWidth;
+            wordStart = wordEnd;
+        }
+        if (lineStart >= 0) {
+            lines.add(paragraph.substring(lineStart, lineEnd));
+        }
+    }
+
+    /**
+     * Returns the width of {@code character}, looking it up in the font the first time.
+     */
+    private float getCharacterWidth(char character) throws IOException {
+        if (character < CACHED_CHARACTERS) {
+            float width = characterWidths[character];
+            if (Float.isNaN(width)) {
+                width = lookUpWidth(character);
+                characterWidths[character] = width;
+            }
+            return width;
+        }
+        Float width = otherCharacterWidths.get(character);
+        if (width == null) {
+            width = lookUpWidth(character);
+            otherCharacterWidths.put(character, width);
+        }
+        return width;
+    }
+
+    private float lookUpWidth(char character) throws IOException {
+        return fontSize * font.getStringWidth(String.valueOf(character)) / 1000;
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.commons.util.pdf;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import seedu.address.commons.util.FileName;
+import seedu.address.commons.util.csv.Exporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * Prints a label sheet for many medicines onto a single pdf file in the label directory, so that it can be written
+ * in the background like other exports.
+ *
+ * The labels are split into segments of {@code PAGES_PER_SEGMENT} pages, which are rendered into documents of their
+ * own on a pool of worker threads, at most one for each processor. The segments are then merged into the pdf file
+ * in order as they finish, and each row of data reported is a label merged into the file.
+ */
+public class LabelSheetExporter implements Exporter {
+
+    /** The number of pages of labels rendered together into a document by a worker thread. */
+    public static final int PAGES_PER_SEGMENT = 10;
+    public static final int LABELS_PER_SEGMENT = PAGES_PER_SEGMENT * PdfWrapper.LABELS_PER_PAGE;
+    public static final String ROW_UNIT = "labels";
+
+    private final List<Medicine> medicinesToLabel;
+    private final String fileName;
+    private final int workers;
+    private Path labelFilePath;
+    private volatile boolean isStopped;
+
+    /**
+     * Creates a LabelSheetExporter that prints a label for each of {@code medicinesToLabel}, in order, onto a pdf
+     * file named {@code fileName}, rendering on as many worker threads as there are processors.
+     * The medicines are copied, so the labels are unaffected by later changes to the list.
+     */
+    public LabelSheetExporter(List<Medicine> medicinesToLabel, FileName fileName) {
+        this(medicinesToLabel, fileName, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a LabelSheetExporter that renders on at most {@code maxWorkers} worker threads.
+     */
+    LabelSheetExporter(List<Medicine> medicinesToLabel, FileName fileName, int maxWorkers) {
+        requireAllNonNull(medicinesToLabel, fileName);
+        if (maxWorkers < 1) {
+            throw new IllegalArgumentException("There must be at least one worker thread.");
+        }
+        this.medicinesToLabel = new ArrayList<>(medicinesToLabel);
+        this.fileName = fileName.toString();
+        int segments = (this.medicinesToLabel.size() + LABELS_PER_SEGMENT - 1) / LABELS_PER_SEGMENT;
+        workers = Math.max(1, Math.min(maxWorkers, segments));
+    }
+
+    @Override
+    public String getExportedFileName() {
+        return fileName + ".pdf";
+    }
+
+    @Override
+    public String getRowUnit() {
+        return ROW_UNIT;
+    }
+
+    @Override
+    public void createFile() throws CommandException {
+        PdfWrapper.createIfLabelDirectoryMissing();
+        labelFilePath = Paths.get(PdfWrapper.getLabelFilePath(fileName));
+        try {
+            Files.write(labelFilePath, new byte[0]);
+        } catch (IOException ioe) {
+            throw new CommandException(PdfWrapper.FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    @Override
+    public boolean writeData(RowListener rowListener) throws CommandException {
+        ExecutorService renderers = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "Label renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<PDDocument>> segments = new ArrayList<>();
+        try (PDDocument labelSheet = new PDDocument()) {
+            for (int first = 0; first < medicinesToLabel.size(); first += LABELS_PER_SEGMENT) {
+                List<Medicine> medicinesInSegment =
+                        medicinesToLabel.subList(first, Math.min(first + LABELS_PER_SEGMENT, medicinesToLabel.size()));
+                segments.add(renderers.submit(() -> PdfWrapper.renderLabelSheet(medicinesInSegment,
+                        PdfWrapper.createLabelFont(), () -> isStopped)));
+            }
+
+            PDFMergerUtility merger = new PDFMergerUtility();
+            long labelsWritten = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                try (PDDocument segment = segments.get(i).get()) {
+                    merger.appendDocument(labelSheet, segment);
+                }
+                labelsWritten = Math.min(labelsWritten + LABELS_PER_SEGMENT, medicinesToLabel.size());
+                if (!rowListener.onRowWritten(labelsWritten)) {
+                    isStopped = true;
+                    return false;
+                }
+            }
+            labelSheet.save(labelFilePath.toFile());
+            return true;
+        } catch (IOException ioe) {
+            isStopped = true;
+            throw new CommandException(PdfWrapper.FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } catch (ExecutionException ee) {
+            isStopped = true;
+            throw new CommandException(PdfWrapper.FILE_OPS_ERROR_MESSAGE + ee.getCause(), ee.getCause());
+        } catch (InterruptedException ie) {
+            isStopped = true;
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            renderers.shutdown();
+            closeUnmergedSegments(segments);
+        }
+    }
+
+    @Override
+    public void doCleanUp() throws CommandException {
+        if (labelFilePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(labelFilePath);
+        } catch (IOException ioe) {
+            throw new CommandException(PdfWrapper.FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    /**
+     * Closes the documents of the segments that were rendered but not merged because writing stopped early.
+     * Segments still being rendered stop at their next page, as writing has stopped.
+     */
+    private static void closeUnmergedSegments(List<Future<PDDocument>> segments) {
+        for (Future<PDDocument> segment : segments) {
+            try {
+                PDDocument document = segment.get();
+                if (document != null && !document.getDocument().isClosed()) {
+                    document.close();
+                }
+            } catch (IOException | ExecutionException e) {
+                // the segment was not rendered or is already given up on, so there is nothing more to close
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
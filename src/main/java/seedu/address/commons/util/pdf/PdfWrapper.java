@@ -7,8 +7,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -16,6 +16,7 @@ import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.font.PDFont;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.util.Matrix;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -29,8 +30,18 @@ import seedu.address.model.medicine.Medicine;
  */
 public class PdfWrapper {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not export data to pdf file: ";
+    /** The number of columns of labels on each page of a label sheet. */
+    public static final int LABEL_COLUMNS = 2;
+    /** The number of rows of labels on each page of a label sheet. */
+    public static final int LABEL_ROWS = 5;
+    public static final int LABELS_PER_PAGE = LABEL_COLUMNS * LABEL_ROWS;
     private static final String DEFAULT_LABEL_FOLDER_NAME = "PDF";
     private static final Path DEFAULT_LABEL_FOLDER_PATH = Paths.get(DEFAULT_LABEL_FOLDER_NAME);
+    private static final PDFont LABEL_FONT = PDType1Font.HELVETICA_BOLD;
+    private static final float SHEET_MARGIN = 36;
+    private static final float SHEET_LABEL_PADDING = 8;
+    private static final float SHEET_FONT_SIZE = 10;
+    private static final float SHEET_LEADING = 1.2f * SHEET_FONT_SIZE;
     private final Index index;
     private String fileName;
     private final Model model;
@@ -59,11 +70,103 @@ public class PdfWrapper {
 
     }
 
+    /**
+     * Renders a label for each of {@code medicinesToLabel} onto the pages of a new document, with
+     * {@code LABELS_PER_PAGE} labels on each page laid out in a grid, in the order given.
+     * Every page is written with {@code font}, and the labels of a page are written in one content stream.
+     * The font, like the document, must only be used by one thread at a time.
+     *
+     * @param isCancelled Checked before each page is rendered, to stop rendering early.
+     * @return The rendered document, or null if rendering was stopped.
+     * @throws IOException If there is an error rendering the labels.
+     */
+    static PDDocument renderLabelSheet(List<Medicine> medicinesToLabel, PDFont font, BooleanSupplier isCancelled)
+            throws IOException {
+        LabelFontMetrics metrics = new LabelFontMetrics(font, SHEET_FONT_SIZE);
+        PDDocument doc = new PDDocument();
+        try {
+            for (int first = 0; first < medicinesToLabel.size(); first += LABELS_PER_PAGE) {
+                if (isCancelled.getAsBoolean()) {
+                    doc.close();
+                    return null;
+                }
+                PDPage sheet = new PDPage(PDRectangle.LETTER);
+                doc.addPage(sheet);
+                List<Medicine> medicinesOnPage =
+                        medicinesToLabel.subList(first, Math.min(first + LABELS_PER_PAGE, medicinesToLabel.size()));
+                try (PDPageContentStream contents = new PDPageContentStream(doc, sheet)) {
+                    writeLabelsToPage(contents, sheet.getMediaBox(), medicinesOnPage, font, metrics);
+                }
+            }
+            return doc;
+        } catch (IOException | RuntimeException e) {
+            doc.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a new instance of the font labels are written in, which keeps its own caches, so that it can be used
+     * on a different thread from other instances.
+     *
+     * @throws IOException If there is an error loading the font.
+     */
+    static PDFont createLabelFont() throws IOException {
+        return new PDType1Font(LABEL_FONT.getCOSObject());
+    }
+
+    /**
+     * Writes a label for each of {@code medicines}, of which there are at most {@code LABELS_PER_PAGE}, onto the page
+     * with the media box {@code mediaBox}. Lines that do not fit in a label are left out.
+     */
+    private static void writeLabelsToPage(PDPageContentStream contents, PDRectangle mediaBox,
+            List<Medicine> medicines, PDFont font, LabelFontMetrics metrics) throws IOException {
+        float labelWidth = (mediaBox.getWidth() - 2 * SHEET_MARGIN) / LABEL_COLUMNS;
+        float labelHeight = (mediaBox.getHeight() - 2 * SHEET_MARGIN) / LABEL_ROWS;
+        int maxLines = (int) ((labelHeight - 2 * SHEET_LABEL_PADDING) / SHEET_LEADING);
+
+        contents.setStrokingColor(Color.DARK_GRAY);
+        for (int i = 0; i < medicines.size(); i++) {
+            contents.addRect(getLabelLeft(mediaBox, i, labelWidth), getLabelTop(mediaBox, i, labelHeight) - labelHeight,
+                    labelWidth, labelHeight);
+        }
+        contents.stroke();
+
+        contents.beginText();
+        contents.setFont(font, SHEET_FONT_SIZE);
+        for (int i = 0; i < medicines.size(); i++) {
+            List<String> lines = metrics.wrap(getMedicineInformationToString(medicines.get(i)),
+                    labelWidth - 2 * SHEET_LABEL_PADDING);
+            contents.setTextMatrix(Matrix.getTranslateInstance(
+                    getLabelLeft(mediaBox, i, labelWidth) + SHEET_LABEL_PADDING,
+                    getLabelTop(mediaBox, i, labelHeight) - SHEET_LABEL_PADDING - SHEET_FONT_SIZE));
+            for (String line : lines.subList(0, Math.min(lines.size(), maxLines))) {
+                contents.showText(line);
+                contents.newLineAtOffset(0, -SHEET_LEADING);
+            }
+        }
+        contents.endText();
+    }
+
+    /**
+     * Returns the x-coordinate of the left edge of the label at {@code position} on a page of a label sheet.
+     */
+    private static float getLabelLeft(PDRectangle mediaBox, int position, float labelWidth) {
+        return mediaBox.getLowerLeftX() + SHEET_MARGIN + (position % LABEL_COLUMNS) * labelWidth;
+    }
+
+    /**
+     * Returns the y-coordinate of the top edge of the label at {@code position} on a page of a label sheet.
+     */
+    private static float getLabelTop(PDRectangle mediaBox, int position, float labelHeight) {
+        return mediaBox.getUpperRightY() - SHEET_MARGIN - (position / LABEL_COLUMNS) * labelHeight;
+    }
+
     /**
      * Creates the export directory if export directory where exported data are stored.
      * @throws CommandException if there are errors creating the export directory.
      */
-    private void createIfLabelDirectoryMissing() throws CommandException {
+    static void createIfLabelDirectoryMissing() throws CommandException {
         if (Files.isDirectory(DEFAULT_LABEL_FOLDER_PATH) == false) {
             try {
                 Files.createDirectory(DEFAULT_LABEL_FOLDER_PATH);
@@ -74,7 +177,14 @@ public class PdfWrapper {
     }
 
     private void parseFileName() {
-        this.fileName = Paths.get(DEFAULT_LABEL_FOLDER_NAME, fileName + ".pdf").toString().replaceAll("\\s+", "");
+        this.fileName = getLabelFilePath(fileName);
+    }
+
+    /**
+     * Returns the path of the pdf file named {@code fileName} in the label directory.
+     */
+    static String getLabelFilePath(String fileName) {
+        return Paths.get(DEFAULT_LABEL_FOLDER_NAME, fileName + ".pdf").toString().replaceAll("\\s+", "");
     }
 
     /**
@@ -84,9 +194,9 @@ public class PdfWrapper {
         try (PDDocument doc = new PDDocument()) {
             doc.addPage(page);
 
-            PDFont font = PDType1Font.HELVETICA_BOLD;
-            float fontSize = 25;
-            float leading = 1.5f * fontSize;
+            PDFont font = LABEL_FONT;
+            float fontSize = 12;
+            float leading = 1.5f * 25;
 
             PDRectangle mediaBox = page.getMediaBox();
             float margin = 72;
@@ -94,36 +204,11 @@ public class PdfWrapper {
             float startX = mediaBox.getLowerLeftX() + margin;
             float startY = mediaBox.getUpperRightY() - margin;
 
-            List<String> lines = new ArrayList<String>();
-            for (String text : textNextLine.split("\n")) {
-                int lastSpace = -1;
-                while (text.length() > 0) {
-                    int spaceIndex = text.indexOf(' ', lastSpace + 1);
-                    if (spaceIndex < 0) {
-                        spaceIndex = text.length();
-                    }
-                    String subString = text.substring(0, spaceIndex);
-                    float size = fontSize * font.getStringWidth(subString) / 1000;
-                    if (size > width) {
-                        if (lastSpace < 0) {
-                            lastSpace = spaceIndex;
-                            subString = text.substring(0, lastSpace);
-                            lines.add(subString);
-                            text = text.substring(lastSpace).trim();
-                            lastSpace = -1;
-                        }
-                    } else if (spaceIndex == text.length()) {
-                        lines.add(text);
-                        text = "";
-                    } else {
-                        lastSpace = spaceIndex;
-                    }
-                }
-            }
+            List<String> lines = new LabelFontMetrics(font, fontSize).wrap(textNextLine, width);
 
             try (PDPageContentStream contents = new PDPageContentStream(doc, page)) {
                 contents.beginText();
-                contents.setFont(font, 12);
+                contents.setFont(font, fontSize);
                 contents.newLineAtOffset(startX, startY);
                 for (String line : lines) {
                     contents.showText(line);
@@ -159,7 +244,7 @@ public class PdfWrapper {
     /**
      * Creates and returns a {@code String} with the details of {@code medicineToPrint}.
      */
-    private String getMedicineInformationToString(Medicine medicineToPrint) {
+    private static String getMedicineInformationToString(Medicine medicineToPrint) {
         String medicineName = medicineToPrint.getName().toString();
         String medicineExpiry = medicineToPrint.getNextExpiry().toString();
         String medicineQuantity = medicineToPrint.getTotalQuantity().toString();
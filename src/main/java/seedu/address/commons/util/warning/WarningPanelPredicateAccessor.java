@@ -1,10 +1,6 @@
 package seedu.address.commons.util.warning;
 
-import java.util.function.Predicate;
-
 import seedu.address.model.Model;
-import seedu.address.model.medicine.Batch;
-import seedu.address.model.medicine.Medicine;
 import seedu.address.model.medicine.predicates.BatchExpiryThresholdPredicate;
 import seedu.address.model.medicine.predicates.MedicineExpiryThresholdPredicate;
 import seedu.address.model.medicine.predicates.MedicineLowStockThresholdPredicate;
@@ -23,15 +19,15 @@ public class WarningPanelPredicateAccessor {
         setDefaultPredicates();
     }
 
-    public Predicate<Batch> getBatchExpiryPredicate() {
+    public BatchExpiryThresholdPredicate getBatchExpiryPredicate() {
         return this.batchExpiryPredicate;
     }
 
-    public Predicate<Medicine> getMedicineExpiryPredicate() {
+    public MedicineExpiryThresholdPredicate getMedicineExpiryPredicate() {
         return this.medicineExpiryPredicate;
     }
 
-    public Predicate<Medicine> getMedicineLowStockPredicate() {
+    public MedicineLowStockThresholdPredicate getMedicineLowStockPredicate() {
         return this.medicineLowStockPredicate;
     }
 
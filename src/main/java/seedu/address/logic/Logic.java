@@ -1,17 +1,21 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.InformationPanelSettings;
+import seedu.address.commons.util.csv.ExportStatus;
 import seedu.address.commons.util.warning.WarningPanelPredicateAccessor;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyInventory;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.storage.InventorySaveStatus;
 
 /**
  * API of the Logic component
@@ -26,6 +30,24 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Blocks until every change to the inventory made by executed commands has been saved to storage.
+     * @throws IOException If the inventory could not be saved.
+     */
+    void flushInventory() throws IOException;
+
+    /**
+     * Status of the most recent save of the inventory to storage.
+     * null if the inventory has not been saved since the app started.
+     */
+    ReadOnlyProperty<InventorySaveStatus> inventorySaveStatusProperty();
+
+    /**
+     * Progress of the most recent csv export running in the background.
+     * null if nothing has been exported since the app started.
+     */
+    ReadOnlyProperty<ExportStatus> exportStatusProperty();
+
     /**
      * Returns the Inventory.
      *
@@ -45,6 +67,18 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of medicines with low quantity for warning pane*/
     ObservableList<Medicine> getLowStockMedicinesList();
 
+    /**
+     * The latest next expiry date of the medicines that are expiring for warning pane.
+     * @see seedu.address.model.Model#expiringMedicinesLimitProperty()
+     */
+    ReadOnlyProperty<LocalDate> expiringMedicinesLimitProperty();
+
+    /**
+     * Updates the medicines that are expiring for warning pane to the current date.
+     * @see seedu.address.model.Model#refreshExpiringMedicinesList()
+     */
+    void refreshExpiringMedicinesList();
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
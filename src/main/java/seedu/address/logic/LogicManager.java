@@ -2,13 +2,17 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.InformationPanelSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.csv.ExportStatus;
 import seedu.address.commons.util.warning.WarningPanelPredicateAccessor;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -18,26 +22,40 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyInventory;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.storage.InventorySaveStatus;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindInventorySaver;
 
 /**
  * The main LogicManager of the app.
  */
 public class LogicManager implements Logic {
-    public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final CommandHistory history;
     private final InventoryParser inventoryParser;
+    private final WriteBehindInventorySaver inventorySaver;
+    private final ReadOnlyObjectWrapper<InventorySaveStatus> inventorySaveStatus = new ReadOnlyObjectWrapper<>();
+    private final ReadOnlyObjectWrapper<ExportStatus> exportStatus = new ReadOnlyObjectWrapper<>();
     private boolean inventoryModified;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code LogicManager} that saves the inventory to {@code storage} in the background and updates
+     * the inventory save status and the export status by running updates on {@code statusUpdateExecutor}.
+     */
+    public LogicManager(Model model, Storage storage, Executor statusUpdateExecutor) {
         this.model = model;
-        this.storage = storage;
         history = new CommandHistory();
         inventoryParser = new InventoryParser();
+        inventorySaver = new WriteBehindInventorySaver(storage, status ->
+                statusUpdateExecutor.execute(() -> inventorySaveStatus.set(status)));
+        model.getExportJobManager().addStatusListener(status ->
+                statusUpdateExecutor.execute(() -> exportStatus.set(status)));
 
         // Set inventoryModified to true whenever the models' inventory is modified.
         model.getInventory().addListener(observable -> inventoryModified = true);
@@ -47,6 +65,7 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         inventoryModified = false;
+        model.refreshExpiringMedicinesList();
 
         CommandResult commandResult;
         try {
@@ -57,17 +76,28 @@ public class LogicManager implements Logic {
         }
 
         if (inventoryModified) {
-            logger.info("Inventory modified, saving to file.");
-            try {
-                storage.saveInventory(model.getInventory());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            logger.info("Inventory modified, queueing save to file.");
+            inventorySaver.requestSave(model.getInventory());
         }
 
         return commandResult;
     }
 
+    @Override
+    public void flushInventory() throws IOException {
+        inventorySaver.flush();
+    }
+
+    @Override
+    public ReadOnlyProperty<InventorySaveStatus> inventorySaveStatusProperty() {
+        return inventorySaveStatus.getReadOnlyProperty();
+    }
+
+    @Override
+    public ReadOnlyProperty<ExportStatus> exportStatusProperty() {
+        return exportStatus.getReadOnlyProperty();
+    }
+
     @Override
     public ReadOnlyInventory getInventory() {
         return model.getInventory();
@@ -93,6 +123,16 @@ public class LogicManager implements Logic {
         return model.getLowStockMedicinesList();
     }
 
+    @Override
+    public ReadOnlyProperty<LocalDate> expiringMedicinesLimitProperty() {
+        return model.expiringMedicinesLimitProperty();
+    }
+
+    @Override
+    public void refreshExpiringMedicinesList() {
+        model.refreshExpiringMedicinesList();
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import seedu.address.commons.util.csv.ExportJob;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Cancels the exports that are still being written, removing their partially written files.
+ */
+public class CancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_SUCCESS = "Cancelled the export to: %1$s";
+    public static final String MESSAGE_NO_EXPORT = "There is no export in progress to cancel.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<ExportJob> cancelledJobs = model.getExportJobManager().cancelAll();
+        if (cancelledJobs.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_EXPORT);
+        }
+
+        StringJoiner fileNames = new StringJoiner(", ");
+        cancelledJobs.forEach(job -> fileNames.add(job.getFileName()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, fileNames));
+    }
+}
@@ -1,50 +1,77 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
 
 import seedu.address.commons.util.FileName;
 import seedu.address.commons.util.csv.CsvWrapper;
+import seedu.address.commons.util.csv.Exporter;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.ExportFormat;
+import seedu.address.storage.InventoryExporter;
 
 /**
- * Exports the current list to a csv file.
+ * Exports the current list to a csv file, or the whole inventory to a compressed file, in the background.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": exports the current list to a .csv file. "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": exports the current list to a .csv file, "
+            + "or the whole inventory to a compressed .csv.gz or .jsonl.gz file. "
             + "Parameters: "
-            + "[FILE_NAME]\n"
+            + "[FILE_NAME] "
+            + "[" + PREFIX_FORMAT + "FORMAT]\n"
             + "Example: " + COMMAND_WORD + " "
-            + "example";
+            + "example " + PREFIX_FORMAT + "jsonl.gz";
 
-    public static final String MESSAGE_SUCCESS = "The current list has been exported to: %1$s.csv";
+    public static final String MESSAGE_SUCCESS = "The current list is being exported to: %1$s\n"
+            + "Its progress is shown in the status bar. Use the " + CancelCommand.COMMAND_WORD
+            + " command to stop it.";
+    public static final String MESSAGE_SUCCESS_INVENTORY = "The whole inventory is being exported to: %1$s\n"
+            + "Its progress is shown in the status bar. Use the " + CancelCommand.COMMAND_WORD
+            + " command to stop it.";
 
     private final String fileName;
+    private final ExportFormat format;
 
     /**
      * Creates an ExportCommand to export the current list to a .csv file.
      */
     public ExportCommand(FileName fileName) {
+        this(fileName, ExportFormat.CSV);
+    }
+
+    /**
+     * Creates an ExportCommand to export to a file in {@code format}. The current list is exported to csv files,
+     * and the whole inventory to files in other formats.
+     */
+    public ExportCommand(FileName fileName, ExportFormat format) {
         requireNonNull(fileName);
+        requireNonNull(format);
         this.fileName = fileName.toString();
+        this.format = format;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        CsvWrapper csvWrapper = new CsvWrapper(fileName, model);
-        csvWrapper.export();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, fileName));
+        Exporter exporter = format == ExportFormat.CSV
+                ? new CsvWrapper(fileName, model)
+                : new InventoryExporter(fileName, format, model);
+        exporter.createFile();
+        model.getExportJobManager().submit(exporter);
+        String message = format == ExportFormat.CSV ? MESSAGE_SUCCESS : MESSAGE_SUCCESS_INVENTORY;
+        return new CommandResult(String.format(message, exporter.getExportedFileName()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ExportCommand // instanceof handles nulls
-                && fileName.equals(((ExportCommand) other).fileName));
+                && fileName.equals(((ExportCommand) other).fileName)
+                && format == ((ExportCommand) other).format);
     }
 }
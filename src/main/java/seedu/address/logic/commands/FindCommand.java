@@ -3,12 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.predicates.ContainsKeywordsPredicate;
 
 /**
  * Finds and lists all medicines in inventory whose data contains any of the argument keywords.
@@ -24,19 +22,19 @@ public class FindCommand extends Command {
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + " Paracetamol Amoxicillin Ibuprofen\n"
             + "Possible prefixes: 'n/': Name, 'c/': Company, 't/': Tags, 'b/': Batch\n";
 
-    private final Predicate<Medicine> predicate;
+    private final ContainsKeywordsPredicate predicate;
 
     /**
      * Creates a FindCommand to filter the medicine list with {@code predicate}
      */
-    public FindCommand(Predicate<Medicine> predicate) {
+    public FindCommand(ContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredMedicineList(predicate);
+        model.updateFilteredMedicineList(predicate.withIndex(model.getKeywordIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_MEDICINES_LISTED_OVERVIEW, model.getFilteredMedicineList().size()));
     }
@@ -1,30 +1,58 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.FileName;
+import seedu.address.commons.util.csv.Exporter;
+import seedu.address.commons.util.pdf.LabelSheetExporter;
 import seedu.address.commons.util.pdf.PdfWrapper;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.predicates.ContainsKeywordsPredicate;
 
 /**
- * Prints a selected medicine identified using it's displayed index from the inventory.
+ * Prints a selected medicine identified using it's displayed index from the inventory, or prints a sheet of labels
+ * for a range of displayed medicines, the whole displayed list or the medicines matching a find query in the
+ * background.
  */
 public class LabelCommand extends Command {
 
     public static final String COMMAND_WORD = "label";
     public static final String DEFAULT_FILENAME = "to_print";
+    public static final String ALL_KEYWORD = "all";
     public static final int MAX_LENGTH_FILENAME = 60;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Prints the Medicine name and description in PDF format using its index.\n"
-            + "Parameters: INDEX [f/(filename)]\n"
-            + "Example: " + COMMAND_WORD + " 1" + " f/printThisFile.\n";
+            + ": Prints the Medicine name and description in PDF format using its index, "
+            + "or prints a sheet of labels for a range of indexes, the whole list (" + ALL_KEYWORD + ") "
+            + "or the medicines found with a find query.\n"
+            + "Parameters: INDEX|INDEX-INDEX|" + ALL_KEYWORD + "|PREFIX KEYWORD [MORE_KEYWORDS]... [f/(filename)]\n"
+            + "Example: " + COMMAND_WORD + " 1" + " f/printThisFile.\n"
+            + "Example: " + COMMAND_WORD + " 1-20" + " f/delivery.\n";
 
     public static final String MESSAGE_LABEL_MEDICINE_SUCCESS = "Successfully printed the medicine at index: %1$s"
             + " in PDF format";
+    public static final String MESSAGE_LABEL_MEDICINES_SUCCESS = "%1$d medicine label(s) are being printed"
+            + " in PDF format to: %2$s\n"
+            + "Its progress is shown in the status bar. Use the " + CancelCommand.COMMAND_WORD
+            + " command to stop it.";
+    public static final String MESSAGE_NO_MEDICINES_TO_LABEL = "There are no medicines to label.";
 
+    /** The displayed index of the only or first medicine to label, or null if not labelling by index. */
     private final Index targetIndex;
+    /** The displayed index of the last medicine to label, or null if not labelling a range. */
+    private final Index lastIndex;
+    /** The find query of the medicines to label, or null if not labelling by a find query. */
+    private final ContainsKeywordsPredicate predicate;
     private final FileName fileName;
 
     /**
@@ -32,24 +60,101 @@ public class LabelCommand extends Command {
      * onto a PDF file with the name {@code FileName}
      */
     public LabelCommand(Index targetIndex, FileName fileName) {
+        this(targetIndex, null, null, fileName);
+        requireNonNull(targetIndex);
+    }
+
+    /**
+     * Creates an LabelCommand to label the medicines displayed from {@code firstIndex} to {@code lastIndex}
+     * inclusive onto a sheet of labels in a PDF file with the name {@code FileName}
+     */
+    public LabelCommand(Index firstIndex, Index lastIndex, FileName fileName) {
+        this(firstIndex, lastIndex, null, fileName);
+        requireNonNull(firstIndex);
+        requireNonNull(lastIndex);
+    }
+
+    /**
+     * Creates an LabelCommand to label the medicines in the inventory matching {@code predicate}
+     * onto a sheet of labels in a PDF file with the name {@code FileName}
+     */
+    public LabelCommand(ContainsKeywordsPredicate predicate, FileName fileName) {
+        this(null, null, predicate, fileName);
+        requireNonNull(predicate);
+    }
+
+    /**
+     * Creates an LabelCommand to label every displayed medicine onto a sheet of labels in a PDF file with the name
+     * {@code FileName}
+     */
+    public LabelCommand(FileName fileName) {
+        this(null, null, null, fileName);
+    }
+
+    private LabelCommand(Index targetIndex, Index lastIndex, ContainsKeywordsPredicate predicate,
+            FileName fileName) {
+        requireNonNull(fileName);
         this.targetIndex = targetIndex;
+        this.lastIndex = lastIndex;
+        this.predicate = predicate;
         this.fileName = fileName;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        PdfWrapper pdfCreation = new PdfWrapper(this.targetIndex, this.fileName, model);
-        pdfCreation.label();
+        requireNonNull(model);
+        if (targetIndex != null && lastIndex == null) {
+            PdfWrapper pdfCreation = new PdfWrapper(this.targetIndex, this.fileName, model);
+            pdfCreation.label();
+            return new CommandResult(String.format(MESSAGE_LABEL_MEDICINE_SUCCESS, targetIndex.getOneBased()));
+        }
 
-        return new CommandResult(String.format(MESSAGE_LABEL_MEDICINE_SUCCESS, targetIndex.getOneBased()));
+        List<Medicine> medicinesToLabel = getMedicinesToLabel(model);
+        if (medicinesToLabel.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MEDICINES_TO_LABEL);
+        }
+        Exporter exporter = new LabelSheetExporter(medicinesToLabel, fileName);
+        exporter.createFile();
+        model.getExportJobManager().submit(exporter);
+        return new CommandResult(String.format(MESSAGE_LABEL_MEDICINES_SUCCESS, medicinesToLabel.size(),
+                exporter.getExportedFileName()));
+    }
 
+    /**
+     * Returns the medicines to label onto a sheet of labels, in the order they are displayed.
+     * @throws CommandException If the range of indexes to label is not in the displayed list.
+     */
+    private List<Medicine> getMedicinesToLabel(Model model) throws CommandException {
+        List<Medicine> filteredMedicineList = model.getFilteredMedicineList();
+        if (predicate != null) {
+            Predicate<Medicine> matcher = predicate.withIndex(model.getKeywordIndex());
+            return model.getInventory().getMedicineList().stream()
+                    .filter(matcher)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        if (targetIndex == null) {
+            return filteredMedicineList;
+        }
+        if (lastIndex.getZeroBased() >= filteredMedicineList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_MEDICINE_DISPLAYED_INDEX);
+        }
+        return filteredMedicineList.subList(targetIndex.getZeroBased(), lastIndex.getOneBased());
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof LabelCommand // instanceof handles nulls
-                && targetIndex.equals(((LabelCommand) other).targetIndex)); // state check
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof LabelCommand)) {
+            return false;
+        }
+        LabelCommand otherCommand = (LabelCommand) other;
+        return Objects.equals(targetIndex, otherCommand.targetIndex)
+                && Objects.equals(lastIndex, otherCommand.lastIndex)
+                && Objects.equals(predicate, otherCommand.predicate)
+                && fileName.equals(otherCommand.fileName);
     }
 
 }
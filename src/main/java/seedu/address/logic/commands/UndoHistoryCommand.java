@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.UndoHistoryUsage;
+
+/**
+ * Reports how much memory and disk space the undo/redo history is using.
+ */
+public class UndoHistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "undohistory";
+    public static final String MESSAGE_SUCCESS = "Undo history: %1$d command(s) can be undone, %2$d can be redone.\n"
+            + "In memory: %3$d state(s), about %4$s.\n"
+            + "On disk: %5$d state(s), %6$s.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        UndoHistoryUsage usage = model.getUndoHistoryUsage();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, usage.getUndoableStates(),
+                usage.getRedoableStates(), usage.getStatesInMemory(), formatBytes(usage.getEstimatedMemoryBytes()),
+                usage.getStatesOnDisk(), formatBytes(usage.getDiskBytes())));
+    }
+
+    /**
+     * Formats {@code bytes} in the largest unit that keeps the value at least 1.
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        } else {
+            return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        }
+    }
+}
@@ -5,10 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_BATCHNUMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPIRY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_QUANTITY;
 
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
@@ -82,9 +79,14 @@ public class UpdateCommand extends Command {
         }
 
         Batch updatedBatch = createUpdatedBatch(batchToUpdate);
-        Medicine updatedMedicine = createUpdatedMedicine(medicineToUpdate, batchToUpdate, updatedBatch);
+        assertWithinMaxQuantity(medicineToUpdate, batchToUpdate, updatedBatch);
 
-        model.setMedicine(medicineToUpdate, updatedMedicine);
+        Medicine updatedMedicine;
+        if (updatedBatch.getQuantity().getNumericValue() != 0) {
+            updatedMedicine = model.upsertBatch(medicineToUpdate, updatedBatch);
+        } else {
+            updatedMedicine = model.removeBatch(medicineToUpdate, updatedBatch.getBatchNumber());
+        }
         model.commitInventory();
         model.setSelectedMedicine(updatedMedicine);
 
@@ -133,29 +135,10 @@ public class UpdateCommand extends Command {
     }
 
     /**
-     * Returns a {@code Medicine} with the details of {@code medicineToUpdate} updated with {@code updatedBatch}.
+     * @throws CommandException if replacing {@code batchToUpdate} with {@code updatedBatch} would exceed the maximum
+     *     total quantity of {@code medicineToUpdate}.
      */
-    private Medicine createUpdatedMedicine(Medicine medicineToUpdate, Batch batchToUpdate, Batch updatedBatch) throws
-            CommandException {
-        Map<BatchNumber, Batch> updatedBatches = getUpdatedBatches(medicineToUpdate, updatedBatch);
-        Quantity updatedQuantity = getUpdatedQuantity(medicineToUpdate, batchToUpdate, updatedBatch);
-        Expiry updatedExpiry = getUpdatedExpiry(updatedBatches);
-
-        return new Medicine(medicineToUpdate.getName(), medicineToUpdate.getCompany(), updatedQuantity, updatedExpiry,
-                medicineToUpdate.getTags(), updatedBatches);
-    }
-
-    private Map<BatchNumber, Batch> getUpdatedBatches(Medicine medicineToUpdate, Batch updatedBatch) {
-        HashMap<BatchNumber, Batch> updatedBatches = new HashMap<>(medicineToUpdate.getBatches());
-        if (updatedBatch.getQuantity().getNumericValue() != 0) {
-            updatedBatches.put(updatedBatch.getBatchNumber(), updatedBatch);
-        } else {
-            updatedBatches.remove(updatedBatch.getBatchNumber());
-        }
-        return updatedBatches;
-    }
-
-    private Quantity getUpdatedQuantity(Medicine medicineToUpdate, Batch batchToUpdate, Batch updatedBatch) throws
+    private void assertWithinMaxQuantity(Medicine medicineToUpdate, Batch batchToUpdate, Batch updatedBatch) throws
             CommandException {
         int quantity = medicineToUpdate.getTotalQuantity().getNumericValue();
 
@@ -164,21 +147,11 @@ public class UpdateCommand extends Command {
         }
         quantity += updatedBatch.getQuantity().getNumericValue();
 
-        try {
-            return new Quantity(Integer.toString(quantity));
-        } catch (IllegalArgumentException e) {
+        if (quantity > Quantity.MAX_QUANTITY) {
             throw new CommandException(MESSAGE_MAX_QUANTITY_EXCEEDED);
         }
     }
 
-    private Expiry getUpdatedExpiry(Map<BatchNumber, Batch> updatedBatches) {
-        if (updatedBatches.size() == 0) {
-            return new Expiry("-");
-        }
-
-        return updatedBatches.values().stream().min(Comparator.comparing(Batch::getExpiry)).get().getExpiry();
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -15,5 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_FILE = new Prefix("f/");
     public static final Prefix PREFIX_PROPERTY = new Prefix("p/");
     public static final Prefix PREFIX_DIRECTION = new Prefix("d/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("o/");
 
 }
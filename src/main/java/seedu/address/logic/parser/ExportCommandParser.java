@@ -1,6 +1,9 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_DETAILED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+
+import java.util.Optional;
 
 import seedu.address.commons.util.FileName;
 import seedu.address.logic.commands.ExportCommand;
@@ -18,8 +21,13 @@ public class ExportCommandParser implements Parser<ExportCommand> {
      */
     public ExportCommand parse(String args) throws ParseException {
         try {
-            FileName fileName = ParserUtil.parseFileName(args, true);
-            return new ExportCommand(fileName);
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FORMAT);
+            Optional<String> format = argMultimap.getValue(PREFIX_FORMAT);
+            if (!format.isPresent()) {
+                return new ExportCommand(ParserUtil.parseFileName(args, true));
+            }
+            FileName fileName = ParserUtil.parseFileName(argMultimap.getPreamble(), true);
+            return new ExportCommand(fileName, ParserUtil.parseExportFormat(format.get()));
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT_DETAILED, pe.getMessage(),
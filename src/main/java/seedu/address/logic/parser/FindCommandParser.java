@@ -8,13 +8,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
-import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.medicine.Medicine;
 import seedu.address.model.medicine.predicates.BatchContainsKeywordsPredicate;
 import seedu.address.model.medicine.predicates.CompanyContainsKeywordsPredicate;
+import seedu.address.model.medicine.predicates.ContainsKeywordsPredicate;
 import seedu.address.model.medicine.predicates.NameContainsKeywordsPredicate;
 import seedu.address.model.medicine.predicates.TagContainsKeywordsPredicate;
 
@@ -29,6 +28,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        return new FindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments as a find query, with a single prefix followed by keywords,
+     * and returns the predicate the query matches medicines with.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ContainsKeywordsPredicate parsePredicate(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_COMPANY, PREFIX_TAG,
                 PREFIX_BATCHNUMBER);
@@ -38,7 +46,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        Predicate<Medicine> predicate = null;
+        ContainsKeywordsPredicate predicate = null;
         String[] keywords;
         Prefix[] prefixes = {PREFIX_NAME, PREFIX_COMPANY, PREFIX_TAG, PREFIX_BATCHNUMBER};
 
@@ -57,14 +65,14 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(predicate);
+        return predicate;
     }
 
     /**
      * Returns the appropriate predicate depending on which prefix is present in the argument.
      * @throws ParseException if unknown prefix is entered.
      */
-    private Predicate<Medicine> getPredicate(Prefix prefix, String[] keywords) throws ParseException {
+    private ContainsKeywordsPredicate getPredicate(Prefix prefix, String[] keywords) throws ParseException {
         if (prefix == PREFIX_NAME) {
             return new NameContainsKeywordsPredicate(Arrays.asList(keywords));
         }
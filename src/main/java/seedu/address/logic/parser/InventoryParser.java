@@ -7,6 +7,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -22,6 +23,7 @@ import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UndoHistoryCommand;
 import seedu.address.logic.commands.UpdateCommand;
 import seedu.address.logic.commands.WarningCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -92,6 +94,12 @@ public class InventoryParser {
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
+        case UndoHistoryCommand.COMMAND_WORD:
+            return new UndoHistoryCommand();
+
+        case CancelCommand.COMMAND_WORD:
+            return new CancelCommand();
+
         case ExportCommand.COMMAND_WORD:
             return new ExportCommandParser().parse(arguments);
 
@@ -4,9 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_COMMAND_EXCEED_LIMIT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import static seedu.address.logic.commands.LabelCommand.ALL_KEYWORD;
 import static seedu.address.logic.commands.LabelCommand.DEFAULT_FILENAME;
 import static seedu.address.logic.commands.LabelCommand.MAX_LENGTH_FILENAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BATCHNUMBER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMPANY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.FileName;
@@ -18,6 +23,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class LabelCommandParser implements Parser<LabelCommand> {
 
+    public static final String MESSAGE_INVALID_RANGE = "The first index of a range must not be after the last.";
+
+    private static final String RANGE_SEPARATOR = "-";
+    private static final Prefix[] FIND_PREFIXES = {PREFIX_NAME, PREFIX_COMPANY, PREFIX_TAG, PREFIX_BATCHNUMBER};
+
     /**
      * Parses the given {@code String} of arguments in the context of the LabelCommand
      * and returns an LabelCommand object for execution.
@@ -26,15 +36,15 @@ public class LabelCommandParser implements Parser<LabelCommand> {
     public LabelCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
-        Index index;
         FileName fileName;
+        LabelCommand labelCommand;
         try {
             if (argMultimap.getValue(PREFIX_FILE).isPresent()) {
                 fileName = ParserUtil.parseFileName(argMultimap.getValue(PREFIX_FILE).get(), true);
             } else {
                 fileName = new FileName(DEFAULT_FILENAME);
             }
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            labelCommand = parseMedicinesToLabel(argMultimap.getPreamble(), fileName);
 
             if (fileName.toString().length() > MAX_LENGTH_FILENAME) {
                 throw new ParseException(String.format(MESSAGE_COMMAND_EXCEED_LIMIT, LabelCommand.MESSAGE_USAGE));
@@ -44,7 +54,35 @@ public class LabelCommandParser implements Parser<LabelCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, LabelCommand.MESSAGE_USAGE), pe);
         }
 
-        return new LabelCommand(index, fileName);
+        return labelCommand;
+
+    }
 
+    /**
+     * Parses {@code preamble}, which is an index, a range of indexes, the keyword for the whole list or a find query,
+     * and returns a LabelCommand labelling those medicines onto a file named {@code fileName}.
+     * @throws ParseException if the preamble is none of these
+     */
+    private LabelCommand parseMedicinesToLabel(String preamble, FileName fileName) throws ParseException {
+        if (preamble.equals(ALL_KEYWORD)) {
+            return new LabelCommand(fileName);
+        }
+
+        for (Prefix prefix : FIND_PREFIXES) {
+            if (preamble.startsWith(prefix.getPrefix())) {
+                return new LabelCommand(new FindCommandParser().parsePredicate(" " + preamble), fileName);
+            }
+        }
+
+        int separatorPosition = preamble.indexOf(RANGE_SEPARATOR);
+        if (separatorPosition < 0) {
+            return new LabelCommand(ParserUtil.parseIndex(preamble), fileName);
+        }
+        Index firstIndex = ParserUtil.parseIndex(preamble.substring(0, separatorPosition));
+        Index lastIndex = ParserUtil.parseIndex(preamble.substring(separatorPosition + 1));
+        if (firstIndex.getZeroBased() > lastIndex.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new LabelCommand(firstIndex, lastIndex, fileName);
     }
 }
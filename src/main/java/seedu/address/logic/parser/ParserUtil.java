@@ -22,6 +22,7 @@ import seedu.address.model.medicine.Name;
 import seedu.address.model.medicine.Quantity;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.threshold.Threshold;
+import seedu.address.storage.ExportFormat;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -82,6 +83,17 @@ public class ParserUtil {
         return new FileName(trimmedFileName);
     }
 
+    /**
+     * Parses a {@code String format} into an {@code ExportFormat}.
+     * Leading and trailing whitespaces will be trimmed, and case is ignored.
+     *
+     * @throws ParseException if the given {@code format} is not a known export format.
+     */
+    public static ExportFormat parseExportFormat(String format) throws ParseException {
+        requireNonNull(format);
+        return ExportFormat.fromName(format).orElseThrow(() -> new ParseException(ExportFormat.MESSAGE_CONSTRAINTS));
+    }
+
     /**
      * Parses a {@code String quantity} into a {@code Quantity}.
      * Leading and trailing whitespaces will be trimmed.
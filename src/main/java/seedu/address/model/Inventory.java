@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
 import java.util.List;
@@ -9,7 +10,10 @@ import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.util.InvalidationListenerManager;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.BatchNumber;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
 import seedu.address.model.medicine.UniqueMedicineList;
 
 /**
@@ -55,11 +59,17 @@ public class Inventory implements ReadOnlyInventory {
 
     /**
      * Resets the existing data of this {@code Inventory} with {@code newData}.
+     * The medicines of another {@code Inventory} are already known to be unique, so they are not checked again.
      */
     public void resetData(ReadOnlyInventory newData) {
         requireNonNull(newData);
 
-        setMedicines(newData.getMedicineList());
+        if (newData instanceof Inventory) {
+            medicines.setMedicines(((Inventory) newData).medicines);
+        } else {
+            medicines.setMedicines(newData.getMedicineList());
+        }
+        indicateModified();
     }
 
     //// medicine-level operations
@@ -102,6 +112,45 @@ public class Inventory implements ReadOnlyInventory {
         indicateModified();
     }
 
+    //// batch-level operations
+
+    /**
+     * Adds {@code batch} to the medicine {@code target}, replacing any batch with the same batch number, and returns
+     * the updated medicine.
+     * {@code target} must exist in the inventory.
+     */
+    public Medicine upsertBatch(Medicine target, Batch batch) {
+        requireAllNonNull(target, batch);
+
+        Medicine updatedMedicine = target.withBatch(batch);
+        medicines.setMedicine(target, updatedMedicine);
+        indicateModified();
+        return updatedMedicine;
+    }
+
+    /**
+     * Removes the batch numbered {@code batchNumber} from the medicine {@code target}, and returns the updated
+     * medicine.
+     * {@code target} must exist in the inventory.
+     */
+    public Medicine removeBatch(Medicine target, BatchNumber batchNumber) {
+        requireAllNonNull(target, batchNumber);
+
+        Medicine updatedMedicine = target.withoutBatch(batchNumber);
+        medicines.setMedicine(target, updatedMedicine);
+        indicateModified();
+        return updatedMedicine;
+    }
+
+    /**
+     * Replaces the medicines {@code removed}, found from index {@code from} of the medicine list, with
+     * {@code added}. Used to replay recorded changes to the medicine list.
+     */
+    void replaceMedicines(int from, List<Medicine> removed, List<Medicine> added) {
+        medicines.replaceMedicines(from, removed, added);
+        indicateModified();
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
@@ -142,6 +191,13 @@ public class Inventory implements ReadOnlyInventory {
         return new SortedList<>(medicines.asUnmodifiableObservableList(), comparator);
     }
 
+    /**
+     * Returns the index of the words in the fields of the medicines in the medicines list.
+     */
+    public MedicineKeywordIndex getKeywordIndex() {
+        return medicines.getKeywordIndex();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
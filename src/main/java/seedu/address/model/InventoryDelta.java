@@ -0,0 +1,142 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * The changes made to an {@code Inventory} between two of its states, as an ordered log of operations on its
+ * medicine list. Only the medicines that changed are kept; they are shared with the inventory rather than copied.
+ * Every operation can be inverted, so the log can be replayed forwards to redo the changes, or its inverse replayed
+ * backwards to undo them, without touching the rest of the list.
+ */
+class InventoryDelta {
+
+    /** Rough heap footprint of the parts of a medicine, used to estimate the size of the delta. */
+    private static final long ESTIMATED_MEDICINE_BYTES = 256;
+    private static final long ESTIMATED_TAG_BYTES = 64;
+    private static final long ESTIMATED_BATCH_BYTES = 192;
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * Records that the medicines {@code removed}, starting at index {@code from} of the medicine list, were replaced
+     * with {@code added}. Operations that do not change the list are not recorded.
+     */
+    void record(int from, List<Medicine> removed, List<Medicine> added) {
+        requireAllNonNull(removed, added);
+        if (removed.equals(added)) {
+            return;
+        }
+        operations.add(new Operation(from, removed, added));
+    }
+
+    boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Returns the operations in the order they were made.
+     */
+    List<Operation> getOperations() {
+        return Collections.unmodifiableList(operations);
+    }
+
+    /**
+     * Returns the operations that revert this delta, in the order they have to be applied.
+     */
+    List<Operation> getInverseOperations() {
+        List<Operation> inverse = new ArrayList<>();
+        for (int i = operations.size() - 1; i >= 0; i--) {
+            inverse.add(operations.get(i).inverse());
+        }
+        return inverse;
+    }
+
+    /**
+     * Returns an estimate of the heap space taken up by the medicines held in this delta.
+     */
+    long estimateSize() {
+        return operations.stream()
+                .mapToLong(operation -> estimateSize(operation.getRemoved()) + estimateSize(operation.getAdded()))
+                .sum();
+    }
+
+    /**
+     * Returns an estimate of the heap space taken up by {@code medicines}.
+     */
+    private static long estimateSize(List<Medicine> medicines) {
+        return medicines.stream()
+                .mapToLong(medicine -> ESTIMATED_MEDICINE_BYTES
+                        + ESTIMATED_TAG_BYTES * medicine.getTags().size()
+                        + ESTIMATED_BATCH_BYTES * medicine.getBatches().size())
+                .sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InventoryDelta // instanceof handles nulls
+                && operations.equals(((InventoryDelta) other).operations)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operations.hashCode();
+    }
+
+    /**
+     * Replaces the medicines {@code removed}, found from index {@code from} of the medicine list, with
+     * {@code added}. Adding, removing and replacing a medicine, as well as replacing the whole list,
+     * are all operations of this form.
+     */
+    static class Operation {
+        private final int from;
+        private final List<Medicine> removed;
+        private final List<Medicine> added;
+
+        Operation(int from, List<Medicine> removed, List<Medicine> added) {
+            this.from = from;
+            this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+            this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        }
+
+        int getFrom() {
+            return from;
+        }
+
+        List<Medicine> getRemoved() {
+            return removed;
+        }
+
+        List<Medicine> getAdded() {
+            return added;
+        }
+
+        /**
+         * Returns the operation that undoes this operation.
+         */
+        Operation inverse() {
+            return new Operation(from, added, removed);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Operation // instanceof handles nulls
+                    && from == ((Operation) other).from
+                    && removed.equals(((Operation) other).removed)
+                    && added.equals(((Operation) other).added)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.BatchNumber;
+import seedu.address.model.medicine.Company;
+import seedu.address.model.medicine.Expiry;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.Name;
+import seedu.address.model.medicine.Quantity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An append-only temporary file that holds {@code InventoryDelta}s moved out of memory by {@code InventoryHistory}.
+ * Each delta is written as a length-prefixed binary record, and is read back by the offset returned when it was
+ * appended. The file is created on the first append and closed and deleted when it is emptied or closed, or failing
+ * that when the app exits.
+ */
+class InventoryDeltaJournal {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private Path journalFile;
+    private RandomAccessFile journal;
+
+    /**
+     * Appends {@code delta} to the end of the journal.
+     *
+     * @return the offset to read {@code delta} back from.
+     */
+    long append(InventoryDelta delta) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(delta.getOperations().size());
+        for (InventoryDelta.Operation operation : delta.getOperations()) {
+            out.writeInt(operation.getFrom());
+            writeMedicines(out, operation.getRemoved());
+            writeMedicines(out, operation.getAdded());
+        }
+        out.flush();
+
+        RandomAccessFile file = open();
+        long offset = file.length();
+        file.seek(offset);
+        file.writeInt(bytes.size());
+        file.write(bytes.toByteArray());
+        return offset;
+    }
+
+    /**
+     * Reads back the delta appended at {@code offset}.
+     */
+    InventoryDelta read(long offset) throws IOException {
+        RandomAccessFile file = open();
+        file.seek(offset);
+        byte[] record = new byte[file.readInt()];
+        file.readFully(record);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        InventoryDelta delta = new InventoryDelta();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            int from = in.readInt();
+            List<Medicine> removed = readMedicines(in);
+            delta.record(from, removed, readMedicines(in));
+        }
+        return delta;
+    }
+
+    /**
+     * Discards every delta appended at or after {@code offset}, closing and deleting the file if it is emptied.
+     */
+    void truncate(long offset) throws IOException {
+        if (journal == null) {
+            return;
+        }
+        if (offset == 0) {
+            close();
+            return;
+        }
+        journal.setLength(offset);
+    }
+
+    /**
+     * Discards every delta appended before {@code offset} by moving the deltas after it to the start of the file,
+     * so that their space on disk is reclaimed. The offset of each remaining delta goes down by {@code offset}.
+     */
+    void compact(long offset) throws IOException {
+        if (journal == null || offset == 0) {
+            return;
+        }
+        long liveBytes = journal.length() - offset;
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        for (long copied = 0; copied < liveBytes;) {
+            int length = (int) Math.min(buffer.length, liveBytes - copied);
+            journal.seek(offset + copied);
+            journal.readFully(buffer, 0, length);
+            journal.seek(copied);
+            journal.write(buffer, 0, length);
+            copied += length;
+        }
+        journal.setLength(liveBytes);
+    }
+
+    /**
+     * Closes and deletes the journal file, if it has been created. The next append creates a new file.
+     */
+    void close() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } finally {
+            journal = null;
+            Files.deleteIfExists(journalFile);
+            journalFile = null;
+        }
+    }
+
+    /**
+     * Returns the size of the journal file in bytes.
+     */
+    long size() throws IOException {
+        return journal == null ? 0 : journal.length();
+    }
+
+    /**
+     * Returns the journal file, creating it if this is the first time it is used.
+     */
+    private RandomAccessFile open() throws IOException {
+        if (journal == null) {
+            journalFile = Files.createTempFile("MediTabs-undo", ".journal");
+            journalFile.toFile().deleteOnExit();
+            journal = new RandomAccessFile(journalFile.toFile(), "rw");
+        }
+        return journal;
+    }
+
+    /**
+     * Writes {@code medicines} to {@code out}.
+     */
+    private static void writeMedicines(DataOutputStream out, List<Medicine> medicines) throws IOException {
+        out.writeInt(medicines.size());
+        for (Medicine medicine : medicines) {
+            writeMedicine(out, medicine);
+        }
+    }
+
+    /**
+     * Reads back a list of medicines written by {@code writeMedicines}.
+     */
+    private static List<Medicine> readMedicines(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        List<Medicine> medicines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            medicines.add(readMedicine(in));
+        }
+        return medicines;
+    }
+
+    /**
+     * Writes {@code medicine} to {@code out}.
+     */
+    private static void writeMedicine(DataOutputStream out, Medicine medicine) throws IOException {
+        out.writeUTF(medicine.getName().fullName);
+        out.writeUTF(medicine.getCompany().companyName);
+        out.writeInt(medicine.getTotalQuantity().getNumericValue());
+        out.writeUTF(medicine.getNextExpiry().toString());
+        out.writeInt(medicine.getTags().size());
+        for (Tag tag : medicine.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+        out.writeInt(medicine.getBatches().size());
+        for (Batch batch : medicine.getBatches().values()) {
+            out.writeUTF(batch.getBatchNumber().batchNumber);
+            out.writeInt(batch.getQuantity().getNumericValue());
+            out.writeUTF(batch.getExpiry().toString());
+        }
+    }
+
+    /**
+     * Reads back a medicine written by {@code writeMedicine}.
+     */
+    private static Medicine readMedicine(DataInputStream in) throws IOException {
+        Name name = new Name(in.readUTF());
+        Company company = new Company(in.readUTF());
+        Quantity totalQuantity = new Quantity(in.readInt());
+        Expiry nextExpiry = new Expiry(in.readUTF());
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(in.readUTF()));
+        }
+        int batchCount = in.readInt();
+        Map<BatchNumber, Batch> batches = new HashMap<>();
+        for (int i = 0; i < batchCount; i++) {
+            BatchNumber batchNumber = new BatchNumber(in.readUTF());
+            Quantity quantity = new Quantity(in.readInt());
+            batches.put(batchNumber, new Batch(batchNumber, quantity, new Expiry(in.readUTF())));
+        }
+        return new Medicine(name, company, totalQuantity, nextExpiry, tags, batches);
+    }
+}
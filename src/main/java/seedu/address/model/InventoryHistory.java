@@ -0,0 +1,229 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.UndoHistorySettings;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * The list of {@code InventoryDelta}s saved by {@code VersionedInventory}, bounded by {@code UndoHistorySettings}.
+ * Once the history is longer than the maximum undo depth, its oldest deltas are discarded.
+ * Once the deltas in memory take up more than the memory budget, the oldest of them are moved to an
+ * {@code InventoryDeltaJournal} on disk, so the oldest deltas are always the ones on disk.
+ * The space of deltas discarded from the journal is reclaimed once it is at least as large as the space of the
+ * deltas still in it, so the journal is never much more than twice the size of the deltas on disk.
+ */
+class InventoryHistory {
+    /** The least space taken up by discarded deltas before the journal is compacted. */
+    static final long JOURNAL_COMPACTION_MIN_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(InventoryHistory.class);
+
+    private final UndoHistorySettings settings;
+    private final InventoryDeltaJournal journal = new InventoryDeltaJournal();
+    /** Journal offsets of the oldest deltas, which have been moved to disk. */
+    private final List<Long> journalOffsets = new ArrayList<>();
+    /** The newest deltas, which are still in memory. */
+    private final List<InventoryDelta> deltasInMemory = new ArrayList<>();
+    private long estimatedMemoryBytes;
+
+    InventoryHistory(UndoHistorySettings settings) {
+        requireNonNull(settings);
+        this.settings = settings;
+    }
+
+    int size() {
+        return journalOffsets.size() + deltasInMemory.size();
+    }
+
+    /**
+     * Returns the delta at {@code index}, reading it back from disk if it is no longer in memory.
+     *
+     * @throws UncheckedIOException if the delta could not be read from disk.
+     */
+    InventoryDelta get(int index) {
+        if (index >= journalOffsets.size()) {
+            return deltasInMemory.get(index - journalOffsets.size());
+        }
+
+        try {
+            return journal.read(journalOffsets.get(index));
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Appends {@code delta} to the end of the history, then moves the oldest deltas to disk if over the memory
+     * budget and discards the oldest deltas if over the maximum undo depth.
+     *
+     * @return the number of deltas discarded from the start of the history.
+     */
+    int add(InventoryDelta delta) {
+        requireNonNull(delta);
+        deltasInMemory.add(delta);
+        estimatedMemoryBytes += delta.estimateSize();
+
+        int discarded = 0;
+        while (size() > Math.max(settings.getMaxUndoDepth(), 0)) {
+            removeOldest();
+            discarded++;
+        }
+        while (estimatedMemoryBytes > settings.getMaxMemoryBytes() && deltasInMemory.size() > 1) {
+            if (!moveOldestInMemoryToDisk()) {
+                break;
+            }
+        }
+        return discarded;
+    }
+
+    /**
+     * Discards the delta at {@code index} and every delta after it.
+     */
+    void removeFrom(int index) {
+        if (index >= size()) {
+            return;
+        }
+
+        if (index < journalOffsets.size()) {
+            truncateJournal(journalOffsets.get(index));
+            journalOffsets.subList(index, journalOffsets.size()).clear();
+            deltasInMemory.clear();
+            estimatedMemoryBytes = 0;
+            return;
+        }
+
+        List<InventoryDelta> removed = deltasInMemory.subList(index - journalOffsets.size(), deltasInMemory.size());
+        estimatedMemoryBytes -= removed.stream().mapToLong(InventoryDelta::estimateSize).sum();
+        removed.clear();
+    }
+
+    /**
+     * Discards every delta that has been moved to disk.
+     */
+    void removeDeltasOnDisk() {
+        journalOffsets.clear();
+        truncateJournal(0);
+    }
+
+    int getDeltasOnDisk() {
+        return journalOffsets.size();
+    }
+
+    int getDeltasInMemory() {
+        return deltasInMemory.size();
+    }
+
+    long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+
+    /**
+     * Returns the size of the journal on disk in bytes, including the space of discarded deltas not reclaimed yet.
+     */
+    long getDiskBytes() {
+        try {
+            return journal.size();
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+
+    /**
+     * Closes and deletes the journal, discarding every delta that has been moved to disk.
+     */
+    void close() {
+        journalOffsets.clear();
+        try {
+            journal.close();
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete undo history journal: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Discards the oldest delta, whether it is on disk or in memory.
+     */
+    private void removeOldest() {
+        if (!journalOffsets.isEmpty()) {
+            journalOffsets.remove(0);
+            if (journalOffsets.isEmpty()) {
+                truncateJournal(0);
+            } else {
+                compactJournalIfMostlyDiscarded();
+            }
+            return;
+        }
+
+        estimatedMemoryBytes -= deltasInMemory.remove(0).estimateSize();
+    }
+
+    /**
+     * Reclaims the space of the deltas discarded from the start of the journal once it is at least
+     * {@code JOURNAL_COMPACTION_MIN_BYTES} and as large as the space of the deltas still in the journal.
+     * Each compaction copies no more than the space it reclaims, so the cost of compacting is bounded by the size
+     * of the deltas moved to disk.
+     */
+    private void compactJournalIfMostlyDiscarded() {
+        long discardedBytes = journalOffsets.get(0);
+        try {
+            if (discardedBytes < JOURNAL_COMPACTION_MIN_BYTES || discardedBytes < journal.size() - discardedBytes) {
+                return;
+            }
+            journal.compact(discardedBytes);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact undo history journal: " + StringUtil.getDetails(ioe));
+            return;
+        }
+        journalOffsets.replaceAll(offset -> offset - discardedBytes);
+    }
+
+    /**
+     * Moves the oldest delta in memory to the journal.
+     * Returns false if it could not be written, in which case it stays in memory.
+     */
+    private boolean moveOldestInMemoryToDisk() {
+        InventoryDelta oldest = deltasInMemory.get(0);
+        try {
+            journalOffsets.add(journal.append(oldest));
+        } catch (IOException ioe) {
+            logger.warning("Failed to move undo history to disk, keeping it in memory: " + StringUtil.getDetails(ioe));
+            return false;
+        }
+
+        deltasInMemory.remove(0);
+        estimatedMemoryBytes -= oldest.estimateSize();
+        return true;
+    }
+
+    /**
+     * Discards every delta in the journal from {@code offset} onwards, logging any failure to do so.
+     */
+    private void truncateJournal(long offset) {
+        try {
+            journal.truncate(offset);
+        } catch (IOException ioe) {
+            logger.warning("Failed to truncate undo history journal: " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InventoryHistory // instanceof handles nulls
+                && journalOffsets.equals(((InventoryHistory) other).journalOffsets)
+                && deltasInMemory.equals(((InventoryHistory) other).deltasInMemory)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return deltasInMemory.hashCode();
+    }
+}
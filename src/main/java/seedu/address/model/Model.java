@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -8,9 +9,15 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.InformationPanelSettings;
 import seedu.address.commons.core.WarningPanelSettings;
+import seedu.address.commons.util.csv.ExportJobManager;
 import seedu.address.commons.util.warning.WarningPanelPredicateAccessor;
 import seedu.address.commons.util.warning.WarningPanelPredicateType;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.BatchNumber;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
+import seedu.address.model.medicine.predicates.MedicineExpiryThresholdPredicate;
+import seedu.address.model.medicine.predicates.MedicineLowStockThresholdPredicate;
 import seedu.address.model.threshold.Threshold;
 
 /**
@@ -91,6 +98,9 @@ public interface Model {
     /** Returns the Inventory */
     ReadOnlyInventory getInventory();
 
+    /** Returns the index of the words in the fields of the medicines in the inventory */
+    MedicineKeywordIndex getKeywordIndex();
+
     /**
      * Returns true if a medicine with the same identity as {@code medicine} exists in the inventory.
      */
@@ -115,9 +125,26 @@ public interface Model {
      */
     void setMedicine(Medicine target, Medicine editedMedicine);
 
+    /**
+     * Adds {@code batch} to the given medicine {@code target}, replacing any batch with the same batch number.
+     * {@code target} must exist in the inventory.
+     * @return the updated medicine.
+     */
+    Medicine upsertBatch(Medicine target, Batch batch);
+
+    /**
+     * Removes the batch numbered {@code batchNumber} from the given medicine {@code target}.
+     * {@code target} must exist in the inventory.
+     * @return the updated medicine.
+     */
+    Medicine removeBatch(Medicine target, BatchNumber batchNumber);
+
     /** Returns predicates used by the warning panel */
     WarningPanelPredicateAccessor getWarningPanelPredicateAccessor();
 
+    /** Returns the manager of the csv exports running in the background */
+    ExportJobManager getExportJobManager();
+
     /** Returns an unmodifiable view of the filtered medicine list to be used for the medicine panel */
     ObservableList<Medicine> getFilteredMedicineList();
 
@@ -127,6 +154,18 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered medicine list for low stock warning */
     ObservableList<Medicine> getLowStockMedicinesList();
 
+    /**
+     * The latest next expiry date of the medicines in the expiring medicine list, which changes with the expiry
+     * threshold and the date.
+     */
+    ReadOnlyProperty<LocalDate> expiringMedicinesLimitProperty();
+
+    /**
+     * Moves the expiring medicine list to the current expiry threshold counted from today, so that it stays current
+     * when the date changes.
+     */
+    void refreshExpiringMedicinesList();
+
     /**
      * Updates the filter of the filtered medicine list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -134,16 +173,16 @@ public interface Model {
     void updateFilteredMedicineList(Predicate<Medicine> predicate);
 
     /**
-     * Updates the filter of the medicine list filtered by expiry date by the give {@code predicate}.
+     * Updates the filter of the medicine list filtered by expiry date to the threshold of the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
-    void updateFilteredExpiringMedicineList(Predicate<Medicine> predicate);
+    void updateFilteredExpiringMedicineList(MedicineExpiryThresholdPredicate predicate);
 
     /**
-     * Updates the filter of the medicine list filtered by quantity by the give {@code predicate}.
+     * Updates the filter of the medicine list filtered by quantity to the threshold of the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
-    void updateFilteredLowStockMedicineList(Predicate<Medicine> predicate);
+    void updateFilteredLowStockMedicineList(MedicineLowStockThresholdPredicate predicate);
 
     /**
      * Returns true if the model has previous inventory states to restore.
@@ -170,6 +209,16 @@ public interface Model {
      */
     void commitInventory();
 
+    /**
+     * Returns a summary of the memory and disk space used by the undo/redo history.
+     */
+    UndoHistoryUsage getUndoHistoryUsage();
+
+    /**
+     * Deletes the undo/redo history kept on disk. Called when the app stops.
+     */
+    void closeUndoHistory();
+
     /**
      * Selected medicine in the filtered medicine list.
      * null if no medicine is selected.
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -18,9 +19,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.InformationPanelSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.WarningPanelSettings;
+import seedu.address.commons.util.csv.ExportJobManager;
 import seedu.address.commons.util.warning.WarningPanelPredicateAccessor;
 import seedu.address.commons.util.warning.WarningPanelPredicateType;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.BatchNumber;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
 import seedu.address.model.medicine.exceptions.MedicineNotFoundException;
 import seedu.address.model.medicine.predicates.MedicineExpiryThresholdPredicate;
 import seedu.address.model.medicine.predicates.MedicineLowStockThresholdPredicate;
@@ -36,9 +41,10 @@ public class ModelManager implements Model {
     private final VersionedInventory versionedInventory;
     private final UserPrefs userPrefs;
     private final WarningPanelPredicateAccessor warningPanelPredicateAccessor;
+    private final ExportJobManager exportJobManager = new ExportJobManager();
     private final FilteredList<Medicine> filteredMedicines;
-    private final FilteredList<Medicine> medicinesExpiring;
-    private final FilteredList<Medicine> medicinesLowStock;
+    private final ThresholdMedicineList<LocalDate> medicinesExpiring;
+    private final ThresholdMedicineList<Integer> medicinesLowStock;
     private final SimpleObjectProperty<Medicine> selectedMedicine = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<InformationPanelSettings> informationPanelSettings =
             new SimpleObjectProperty<>();
@@ -52,15 +58,19 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with inventory: " + inventory + " and user prefs " + userPrefs);
 
-        versionedInventory = new VersionedInventory(inventory);
+        versionedInventory = new VersionedInventory(inventory, userPrefs.getUndoHistorySettings());
         this.userPrefs = new UserPrefs(userPrefs);
 
         filteredMedicines = new FilteredList<>(versionedInventory.getSortedMedicineList(comparator));
         filteredMedicines.addListener(this::ensureSelectedMedicineIsValid);
 
         warningPanelPredicateAccessor = new WarningPanelPredicateAccessor();
-        medicinesExpiring = new FilteredList<>(versionedInventory.getSortedMedicineList(comparator));
-        medicinesLowStock = new FilteredList<>(versionedInventory.getSortedMedicineList(comparator));
+        medicinesExpiring = new ThresholdMedicineList<>(versionedInventory.getMedicineList(), comparator,
+            medicine -> medicine.getNextExpiry().getExpiryDate(),
+            warningPanelPredicateAccessor.getMedicineExpiryPredicate().getLatestExpiryDate());
+        medicinesLowStock = new ThresholdMedicineList<>(versionedInventory.getMedicineList(), comparator,
+            medicine -> medicine.getTotalQuantity().getNumericValue(),
+            warningPanelPredicateAccessor.getLowStockThreshold().getNumericValue());
         configureWarningPanelLists();
 
         informationPanelSettings.setValue(userPrefs.getInformationPanelSettings());
@@ -163,6 +173,11 @@ public class ModelManager implements Model {
         return versionedInventory;
     }
 
+    @Override
+    public MedicineKeywordIndex getKeywordIndex() {
+        return versionedInventory.getKeywordIndex();
+    }
+
     @Override
     public boolean hasMedicine(Medicine medicine) {
         requireNonNull(medicine);
@@ -186,6 +201,18 @@ public class ModelManager implements Model {
         versionedInventory.setMedicine(target, editedMedicine);
     }
 
+    @Override
+    public Medicine upsertBatch(Medicine target, Batch batch) {
+        requireAllNonNull(target, batch);
+        return versionedInventory.upsertBatch(target, batch);
+    }
+
+    @Override
+    public Medicine removeBatch(Medicine target, BatchNumber batchNumber) {
+        requireAllNonNull(target, batchNumber);
+        return versionedInventory.removeBatch(target, batchNumber);
+    }
+
     //=========== Filtered Medicine List Accessors =============================================================
 
     /**
@@ -199,12 +226,22 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Medicine> getExpiringMedicinesList() {
-        return medicinesExpiring;
+        return medicinesExpiring.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Medicine> getLowStockMedicinesList() {
-        return medicinesLowStock;
+        return medicinesLowStock.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public ReadOnlyProperty<LocalDate> expiringMedicinesLimitProperty() {
+        return medicinesExpiring.limitProperty();
+    }
+
+    @Override
+    public void refreshExpiringMedicinesList() {
+        updateFilteredExpiringMedicineList(warningPanelPredicateAccessor.getMedicineExpiryPredicate());
     }
 
     @Override
@@ -212,6 +249,11 @@ public class ModelManager implements Model {
         return warningPanelPredicateAccessor;
     }
 
+    @Override
+    public ExportJobManager getExportJobManager() {
+        return exportJobManager;
+    }
+
     @Override
     public void updateFilteredMedicineList(Predicate<Medicine> predicate) {
         requireNonNull(predicate);
@@ -219,15 +261,15 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void updateFilteredExpiringMedicineList(Predicate<Medicine> predicate) {
+    public void updateFilteredExpiringMedicineList(MedicineExpiryThresholdPredicate predicate) {
         requireNonNull(predicate);
-        medicinesExpiring.setPredicate(predicate);
+        medicinesExpiring.setLimit(predicate.getLatestExpiryDate());
     }
 
     @Override
-    public void updateFilteredLowStockMedicineList(Predicate<Medicine> predicate) {
+    public void updateFilteredLowStockMedicineList(MedicineLowStockThresholdPredicate predicate) {
         requireNonNull(predicate);
-        medicinesLowStock.setPredicate(predicate);
+        medicinesLowStock.setLimit(predicate.getThreshold().getNumericValue());
     }
 
     //=========== Undo/Redo =================================================================================
@@ -257,6 +299,16 @@ public class ModelManager implements Model {
         versionedInventory.commit();
     }
 
+    @Override
+    public UndoHistoryUsage getUndoHistoryUsage() {
+        return versionedInventory.getUndoHistoryUsage();
+    }
+
+    @Override
+    public void closeUndoHistory() {
+        versionedInventory.closeHistory();
+    }
+
     //=========== Selected medicine ===========================================================================
 
     @Override
@@ -313,21 +365,22 @@ public class ModelManager implements Model {
         int thresholdValue = threshold.getNumericValue();
 
         if (type.equals(WarningPanelPredicateType.EXPIRY)) {
-            updateFilteredExpiringMedicineList(new MedicineExpiryThresholdPredicate(threshold));
-
+            // the accessor is updated first, as the warning cards read their batches from it when rebuilt
             warningPanelPredicateAccessor.updateMedicineExpiringThreshold(thresholdValue);
             warningPanelPredicateAccessor.updateBatchExpiringThreshold(thresholdValue);
 
+            updateFilteredExpiringMedicineList(new MedicineExpiryThresholdPredicate(threshold));
+
             // update user prefs
             setWarningPanelSettings(new WarningPanelSettings(
                     thresholdValue, warningPanelPredicateAccessor.getLowStockThreshold().getNumericValue()));
 
         } else {
             // WarningPanelPredicateType.LOW_STOCK
-            updateFilteredLowStockMedicineList(new MedicineLowStockThresholdPredicate(threshold));
-
             warningPanelPredicateAccessor.updateMedicineLowStockThreshold(thresholdValue);
 
+            updateFilteredLowStockMedicineList(new MedicineLowStockThresholdPredicate(threshold));
+
             // update user prefs
             setWarningPanelSettings(new WarningPanelSettings(
                     warningPanelPredicateAccessor.getExpiryThreshold().getNumericValue(), thresholdValue));
@@ -362,8 +415,10 @@ public class ModelManager implements Model {
                 && userPrefs.equals(other.userPrefs)
                 && warningPanelPredicateAccessor.equals(other.warningPanelPredicateAccessor)
                 && filteredMedicines.equals(other.filteredMedicines)
-                && medicinesExpiring.equals(other.medicinesExpiring)
-                && medicinesLowStock.equals(other.medicinesLowStock)
+                && medicinesExpiring.asUnmodifiableObservableList()
+                        .equals(other.medicinesExpiring.asUnmodifiableObservableList())
+                && medicinesLowStock.asUnmodifiableObservableList()
+                        .equals(other.medicinesLowStock.asUnmodifiableObservableList())
                 && Objects.equals(selectedMedicine.get(), other.selectedMedicine.get());
     }
 
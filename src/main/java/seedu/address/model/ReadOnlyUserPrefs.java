@@ -4,6 +4,7 @@ import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.InformationPanelSettings;
+import seedu.address.commons.core.UndoHistorySettings;
 import seedu.address.commons.core.WarningPanelSettings;
 
 /**
@@ -15,8 +16,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getInventoryFilePath();
 
+    int getInventoryShardCount();
+
+    boolean isInventoryLazyBatchLoading();
+
     WarningPanelSettings getWarningPanelSettings();
 
     InformationPanelSettings getInformationPanelSettings();
 
+    UndoHistorySettings getUndoHistorySettings();
+
 }
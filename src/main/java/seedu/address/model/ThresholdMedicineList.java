@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * A sorted view of the medicines in a source list whose key, such as the next expiry date, is at most a limit.
+ * Medicines without a key are never in the view.
+ *
+ * Medicines are indexed by their key, so moving the limit is a single range lookup that only touches the medicines
+ * crossing it, and each change to the source list only touches the medicines changed. Views showing details that
+ * depend on the limit for medicines staying within it can follow {@link #limitProperty()} instead.
+ *
+ * @param <K> type of the key the medicines are compared against the limit by.
+ */
+class ThresholdMedicineList<K extends Comparable<? super K>> {
+
+    private final Function<Medicine, K> keyExtractor;
+    private final NavigableMap<K, Set<Medicine>> medicinesByKey = new TreeMap<>();
+    private final ObservableList<Medicine> medicinesWithinLimit = FXCollections.observableArrayList();
+    private final ObservableList<Medicine> sortedMedicinesWithinLimit;
+    private final ReadOnlyObjectWrapper<K> limit = new ReadOnlyObjectWrapper<>();
+
+    /**
+     * Creates a view of the medicines in {@code source} whose key, given by {@code keyExtractor}, is at most
+     * {@code limit}, sorted by {@code comparator}.
+     */
+    ThresholdMedicineList(ObservableList<Medicine> source, Comparator<Medicine> comparator,
+            Function<Medicine, K> keyExtractor, K limit) {
+        requireAllNonNull(source, comparator, keyExtractor, limit);
+        this.keyExtractor = keyExtractor;
+        this.limit.set(limit);
+        sortedMedicinesWithinLimit = new SortedList<>(medicinesWithinLimit, comparator);
+
+        source.forEach(this::addToIndex);
+        medicinesWithinLimit.setAll(flatten(medicinesByKey.headMap(limit, true).values()));
+        source.addListener(this::updateIndex);
+    }
+
+    /**
+     * Returns the medicines within the limit as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Medicine> asUnmodifiableObservableList() {
+        return sortedMedicinesWithinLimit;
+    }
+
+    K getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * The limit, which changes after the medicines within it have been updated.
+     */
+    ReadOnlyProperty<K> limitProperty() {
+        return limit.getReadOnlyProperty();
+    }
+
+    /**
+     * Moves the limit to {@code newLimit}, adding or removing only the medicines with keys between the two limits.
+     */
+    void setLimit(K newLimit) {
+        requireNonNull(newLimit);
+        K oldLimit = limit.get();
+        int comparison = newLimit.compareTo(oldLimit);
+        if (comparison > 0) {
+            medicinesWithinLimit.addAll(flatten(medicinesByKey.subMap(oldLimit, false, newLimit, true).values()));
+        } else if (comparison < 0) {
+            medicinesWithinLimit.removeAll(
+                    identitySetOf(flatten(medicinesByKey.subMap(newLimit, false, oldLimit, true).values())));
+        }
+        limit.set(newLimit);
+    }
+
+    /**
+     * Updates the index and the medicines within the limit with the medicines added to and removed from the source.
+     */
+    private void updateIndex(ListChangeListener.Change<? extends Medicine> change) {
+        List<Medicine> removedWithinLimit = new ArrayList<>();
+        List<Medicine> addedWithinLimit = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            for (Medicine removed : change.getRemoved()) {
+                removeFromIndex(removed);
+                if (isWithinLimit(removed)) {
+                    removedWithinLimit.add(removed);
+                }
+            }
+            for (Medicine added : change.getAddedSubList()) {
+                addToIndex(added);
+                if (isWithinLimit(added)) {
+                    addedWithinLimit.add(added);
+                }
+            }
+        }
+
+        if (!removedWithinLimit.isEmpty()) {
+            medicinesWithinLimit.removeAll(identitySetOf(removedWithinLimit));
+        }
+        medicinesWithinLimit.addAll(addedWithinLimit);
+    }
+
+    private boolean isWithinLimit(Medicine medicine) {
+        K key = keyExtractor.apply(medicine);
+        return key != null && key.compareTo(limit.get()) <= 0;
+    }
+
+    /**
+     * Adds {@code medicine} to the index if it has a key.
+     */
+    private void addToIndex(Medicine medicine) {
+        K key = keyExtractor.apply(medicine);
+        if (key != null) {
+            medicinesByKey.computeIfAbsent(key, unused -> newIdentitySet()).add(medicine);
+        }
+    }
+
+    /**
+     * Removes {@code medicine} from the index, if it is there.
+     */
+    private void removeFromIndex(Medicine medicine) {
+        K key = keyExtractor.apply(medicine);
+        Set<Medicine> medicinesWithKey = key == null ? null : medicinesByKey.get(key);
+        if (medicinesWithKey != null) {
+            medicinesWithKey.remove(medicine);
+            if (medicinesWithKey.isEmpty()) {
+                medicinesByKey.remove(key);
+            }
+        }
+    }
+
+    private static List<Medicine> flatten(Collection<Set<Medicine>> medicineSets) {
+        List<Medicine> medicines = new ArrayList<>();
+        medicineSets.forEach(medicines::addAll);
+        return medicines;
+    }
+
+    /**
+     * Returns a set comparing medicines by reference, which avoids hashing every batch of each medicine.
+     * Medicines in the source list are distinct objects, so this matches comparing them with {@code equals}.
+     */
+    private static Set<Medicine> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static Set<Medicine> identitySetOf(Collection<Medicine> medicines) {
+        Set<Medicine> set = newIdentitySet();
+        set.addAll(medicines);
+        return set;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+/**
+ * A summary of the resources used by the undo/redo history of the inventory.
+ * Guarantees: immutable.
+ */
+public class UndoHistoryUsage {
+    private final int undoableStates;
+    private final int redoableStates;
+    private final int statesInMemory;
+    private final long estimatedMemoryBytes;
+    private final int statesOnDisk;
+    private final long diskBytes;
+
+    public UndoHistoryUsage(int undoableStates, int redoableStates, int statesInMemory, long estimatedMemoryBytes,
+            int statesOnDisk, long diskBytes) {
+        this.undoableStates = undoableStates;
+        this.redoableStates = redoableStates;
+        this.statesInMemory = statesInMemory;
+        this.estimatedMemoryBytes = estimatedMemoryBytes;
+        this.statesOnDisk = statesOnDisk;
+        this.diskBytes = diskBytes;
+    }
+
+    public int getUndoableStates() {
+        return undoableStates;
+    }
+
+    public int getRedoableStates() {
+        return redoableStates;
+    }
+
+    public int getStatesInMemory() {
+        return statesInMemory;
+    }
+
+    public long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+
+    public int getStatesOnDisk() {
+        return statesOnDisk;
+    }
+
+    public long getDiskBytes() {
+        return diskBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoHistoryUsage)) { //this handles null as well.
+            return false;
+        }
+
+        UndoHistoryUsage o = (UndoHistoryUsage) other;
+        return undoableStates == o.undoableStates
+                && redoableStates == o.redoableStates
+                && statesInMemory == o.statesInMemory
+                && estimatedMemoryBytes == o.estimatedMemoryBytes
+                && statesOnDisk == o.statesOnDisk
+                && diskBytes == o.diskBytes;
+    }
+
+    @Override
+    public String toString() {
+        return undoableStates + " undoable, " + redoableStates + " redoable, " + statesInMemory + " in memory ("
+                + estimatedMemoryBytes + " bytes), " + statesOnDisk + " on disk (" + diskBytes + " bytes)";
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.InformationPanelSettings;
+import seedu.address.commons.core.UndoHistorySettings;
 import seedu.address.commons.core.WarningPanelSettings;
 
 /**
@@ -18,7 +19,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private WarningPanelSettings warningPanelSettings = new WarningPanelSettings();
     private InformationPanelSettings informationPanelSettings = new InformationPanelSettings();
-    private Path inventoryFilePath = Paths.get("data" , "MediTabs.json");
+    private UndoHistorySettings undoHistorySettings = new UndoHistorySettings();
+    private Path inventoryFilePath = Paths.get("data" , "MediTabs.bin");
+    /** The number of shard files the inventory is split into, or 0 to keep it in a single file with a journal. */
+    private int inventoryShardCount = 0;
+    /** Whether the batches of each medicine are only loaded from the inventory file when first needed. */
+    private boolean inventoryLazyBatchLoading = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,8 +46,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setInventoryFilePath(newUserPrefs.getInventoryFilePath());
+        setInventoryShardCount(newUserPrefs.getInventoryShardCount());
+        setInventoryLazyBatchLoading(newUserPrefs.isInventoryLazyBatchLoading());
         setWarningPanelSettings(newUserPrefs.getWarningPanelSettings());
         setInformationPanelSettings(newUserPrefs.getInformationPanelSettings());
+        setUndoHistorySettings(newUserPrefs.getUndoHistorySettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -71,6 +80,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.informationPanelSettings = informationPanelSettings;
     }
 
+    public UndoHistorySettings getUndoHistorySettings() {
+        return undoHistorySettings;
+    }
+
+    public void setUndoHistorySettings(UndoHistorySettings undoHistorySettings) {
+        requireNonNull(undoHistorySettings);
+        this.undoHistorySettings = undoHistorySettings;
+    }
+
     public Path getInventoryFilePath() {
         return inventoryFilePath;
     }
@@ -80,6 +98,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.inventoryFilePath = inventoryFilePath;
     }
 
+    public int getInventoryShardCount() {
+        return inventoryShardCount;
+    }
+
+    public void setInventoryShardCount(int inventoryShardCount) {
+        this.inventoryShardCount = inventoryShardCount;
+    }
+
+    public boolean isInventoryLazyBatchLoading() {
+        return inventoryLazyBatchLoading;
+    }
+
+    public void setInventoryLazyBatchLoading(boolean inventoryLazyBatchLoading) {
+        this.inventoryLazyBatchLoading = inventoryLazyBatchLoading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -106,7 +140,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nWarning Panel Settings : " + warningPanelSettings);
         sb.append("\nInformation Panel Settings : " + informationPanelSettings);
+        sb.append("\nUndo History Settings : " + undoHistorySettings);
         sb.append("\nLocal data file location : " + inventoryFilePath);
+        sb.append("\nInventory shard count : " + inventoryShardCount);
+        sb.append("\nInventory lazy batch loading : " + inventoryLazyBatchLoading);
         return sb.toString();
     }
 
@@ -1,37 +1,82 @@
 package seedu.address.model;
 
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.UndoHistorySettings;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.medicine.Medicine;
 
 /**
  * {@code Inventory} that keeps track of its own history.
+ * Rather than copying the whole inventory, each saved state only stores the operations made on the medicine list
+ * since the previous state, together with the medicines they changed. Unchanged medicines are shared between all
+ * states and the current inventory, and undo/redo replay only those operations.
+ * The length and memory use of the history are bounded by {@code UndoHistorySettings}.
  */
 public class VersionedInventory extends Inventory {
+    private static final Logger logger = LogsCenter.getLogger(VersionedInventory.class);
 
-    private final List<ReadOnlyInventory> inventoryStateList;
+    /** The i-th delta holds the changes from the i-th saved state to the (i+1)-th saved state. */
+    private final InventoryHistory inventoryHistory;
+    private InventoryDelta uncommittedDelta;
     private int currentStatePointer;
+    private boolean isReplaying;
 
     public VersionedInventory(ReadOnlyInventory initialState) {
-        super(initialState);
+        this(initialState, new UndoHistorySettings());
+    }
 
-        inventoryStateList = new ArrayList<>();
-        inventoryStateList.add(new Inventory(initialState));
+    public VersionedInventory(ReadOnlyInventory initialState, UndoHistorySettings undoHistorySettings) {
+        super();
+        inventoryHistory = new InventoryHistory(undoHistorySettings);
+        uncommittedDelta = new InventoryDelta();
         currentStatePointer = 0;
+
+        resetData(initialState);
+        getMedicineList().addListener(this::recordChange);
+    }
+
+    //// recording of changes
+
+    /**
+     * Records every change to the medicine list as an operation of the uncommitted delta, unless the change is
+     * itself the replay of a saved delta.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Medicine> change) {
+        if (isReplaying) {
+            return;
+        }
+
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            uncommittedDelta.record(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                    new ArrayList<>(change.getAddedSubList()));
+        }
     }
 
+    //// undo/redo operations
+
     /**
-     * Saves a copy of the current {@code Inventory} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last saved state as a new state at the end of the state list.
+     * Undone states are removed from the state list, as are the oldest states beyond the maximum undo depth.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        inventoryStateList.add(new Inventory(this));
-        currentStatePointer++;
+        int discardedStates = inventoryHistory.add(uncommittedDelta);
+        uncommittedDelta = new InventoryDelta();
+        currentStatePointer += 1 - discardedStates;
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        inventoryStateList.subList(currentStatePointer + 1, inventoryStateList.size()).clear();
+        inventoryHistory.removeFrom(currentStatePointer);
     }
 
     /**
@@ -41,8 +86,14 @@ public class VersionedInventory extends Inventory {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        discardUncommittedChanges();
+        InventoryDelta delta = getSavedDelta(currentStatePointer - 1);
+        if (delta == null) {
+            throw new NoUndoableStateException();
+        }
         currentStatePointer--;
-        resetData(inventoryStateList.get(currentStatePointer));
+        replay(delta.getInverseOperations());
+        indicateModified();
     }
 
     /**
@@ -52,8 +103,14 @@ public class VersionedInventory extends Inventory {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        discardUncommittedChanges();
+        InventoryDelta delta = getSavedDelta(currentStatePointer);
+        if (delta == null) {
+            throw new NoRedoableStateException();
+        }
+        replay(delta.getOperations());
         currentStatePointer++;
-        resetData(inventoryStateList.get(currentStatePointer));
+        indicateModified();
     }
 
     /**
@@ -67,7 +124,77 @@ public class VersionedInventory extends Inventory {
      * Returns true if {@code redo()} has inventory states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < inventoryStateList.size() - 1;
+        return currentStatePointer < inventoryHistory.size();
+    }
+
+    /**
+     * Returns a summary of the memory and disk space used by the undo/redo history.
+     */
+    public UndoHistoryUsage getUndoHistoryUsage() {
+        return new UndoHistoryUsage(currentStatePointer, inventoryHistory.size() - currentStatePointer,
+                inventoryHistory.getDeltasInMemory(), inventoryHistory.getEstimatedMemoryBytes(),
+                inventoryHistory.getDeltasOnDisk(), inventoryHistory.getDiskBytes());
+    }
+
+    /**
+     * Closes and deletes the journal of saved states moved to disk, discarding every state that depends on them.
+     */
+    public void closeHistory() {
+        int deltasOnDisk = inventoryHistory.getDeltasOnDisk();
+        if (currentStatePointer >= deltasOnDisk) {
+            inventoryHistory.close();
+            currentStatePointer -= deltasOnDisk;
+        } else {
+            inventoryHistory.removeFrom(0);
+            inventoryHistory.close();
+            currentStatePointer = 0;
+        }
+    }
+
+    /**
+     * Returns the saved delta at {@code index}.
+     * If it can no longer be read from disk, every state that depends on the deltas on disk is discarded
+     * and null is returned.
+     */
+    private InventoryDelta getSavedDelta(int index) {
+        try {
+            return inventoryHistory.get(index);
+        } catch (UncheckedIOException uioe) {
+            logger.warning("Failed to read undo history from disk, discarding older states: "
+                    + StringUtil.getDetails(uioe));
+        }
+
+        int deltasOnDisk = inventoryHistory.getDeltasOnDisk();
+        if (currentStatePointer >= deltasOnDisk) {
+            inventoryHistory.removeDeltasOnDisk();
+            currentStatePointer -= deltasOnDisk;
+        } else {
+            inventoryHistory.removeFrom(0);
+            currentStatePointer = 0;
+        }
+        return null;
+    }
+
+    /**
+     * Restores the inventory to the state it was in at the last {@code commit()}.
+     */
+    private void discardUncommittedChanges() {
+        replay(uncommittedDelta.getInverseOperations());
+        uncommittedDelta = new InventoryDelta();
+    }
+
+    /**
+     * Applies {@code operations} to the medicine list in order, without recording them.
+     */
+    private void replay(List<InventoryDelta.Operation> operations) {
+        isReplaying = true;
+        try {
+            for (InventoryDelta.Operation operation : operations) {
+                replaceMedicines(operation.getFrom(), operation.getRemoved(), operation.getAdded());
+            }
+        } finally {
+            isReplaying = false;
+        }
     }
 
     @Override
@@ -86,7 +213,7 @@ public class VersionedInventory extends Inventory {
 
         // state check
         return super.equals(otherVersionedInventory)
-                && inventoryStateList.equals(otherVersionedInventory.inventoryStateList)
+                && inventoryHistory.equals(otherVersionedInventory.inventoryHistory)
                 && currentStatePointer == otherVersionedInventory.currentStatePointer;
     }
 
@@ -7,7 +7,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  * Represents the identification number of a Batch.
  * Guarantees: immutable; is valid as declared in {@link #isValidBatchNumber(String)}
  */
-public class BatchNumber {
+public class BatchNumber implements Comparable<BatchNumber> {
     public static final int MAX_LENGTH_BATCHNUMBER = 30;
     public static final String MESSAGE_CONSTRAINTS = "Batch number may contain alphanumeric characters, '-', and"
             + " spaces.\nIt should start with an alphanumeric character and should not be blank\n"
@@ -39,6 +39,11 @@ public class BatchNumber {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH_BATCHNUMBER;
     }
 
+    @Override
+    public int compareTo(BatchNumber other) {
+        return batchNumber.compareTo(other.batchNumber);
+    }
+
     @Override
     public String toString() {
         return batchNumber;
@@ -8,6 +8,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 
 /**
  * Represents the expiry date of a batch Medicine in the inventory.
@@ -39,6 +40,20 @@ public class Expiry implements Comparable<Expiry> {
         }
     }
 
+    private Expiry(LocalDate expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    /**
+     * Returns an {@code Expiry} on {@code expiryDate}, or an {@code Expiry} without a date if it is null.
+     *
+     * @param expiryDate A date that is not after {@link #MAX_DATE}, or null.
+     */
+    public static Expiry fromDate(LocalDate expiryDate) {
+        checkArgument(expiryDate == null || !expiryDate.isAfter(MAX_DATE), MESSAGE_CONSTRAINTS);
+        return new Expiry(expiryDate);
+    }
+
     /**
      * Returns if a given string is a valid expiry.
      * */
@@ -75,7 +90,7 @@ public class Expiry implements Comparable<Expiry> {
         LocalDate date1 = this.expiryDate;
         LocalDate date2 = o.getExpiryDate();
         if (date1 == null) {
-            return -1;
+            return date2 == null ? 0 : -1;
         } else if (date2 == null) {
             return 1;
         } else {
@@ -112,7 +127,7 @@ public class Expiry implements Comparable<Expiry> {
 
     @Override
     public int hashCode() {
-        return expiryDate.hashCode();
+        return Objects.hashCode(expiryDate);
     }
 
 }
@@ -1,15 +1,21 @@
 package seedu.address.model.medicine;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +25,9 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Medicine in the inventory.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The batches of a medicine may be loaded the first time they are needed, so that an inventory can be shown from
+ * the other fields of its medicines without reading every batch.
  */
 public class Medicine implements Comparable<Medicine> {
     // Limits
@@ -28,6 +37,10 @@ public class Medicine implements Comparable<Medicine> {
     public static final String MESSAGE_CONSTRAINTS_BATCHES = "Too many batches. Max number of batches: "
             + MAX_SIZE_BATCH;
 
+    private static final Comparator<BatchNumber> BATCH_NUMBER_ORDER = Comparator.naturalOrder();
+    private static final Comparator<Batch> BATCH_EXPIRY_ORDER = Comparator.comparing(Batch::getExpiry)
+            .thenComparing(Batch::getBatchNumber);
+
     // Identity fields
     private final Name name;
     private final Company company;
@@ -36,7 +49,11 @@ public class Medicine implements Comparable<Medicine> {
     private final Quantity totalQuantity;
     private final Expiry nextExpiry;
     private final Set<Tag> tags = new HashSet<>();
-    private final Map<BatchNumber, Batch> batches = new HashMap<>();
+
+    /** The batches of this medicine, or null if they have not been loaded yet. */
+    private volatile Batches batches;
+    /** Loads the batches of this medicine, or null once they have been loaded. Guarded by this medicine. */
+    private Supplier<Map<BatchNumber, Batch>> batchLoader;
 
     /**
      * Every field must be present and not null.
@@ -45,19 +62,137 @@ public class Medicine implements Comparable<Medicine> {
             Map<BatchNumber, Batch> batches) {
         requireAllNonNull(name, company, quantity, expiry, tags, batches);
         checkArgument(isWithinLimits(tags, MAX_SIZE_TAG), MESSAGE_CONSTRAINTS_TAGS);
-        checkArgument(isWithinLimits(batches.keySet(), MAX_SIZE_BATCH), MESSAGE_CONSTRAINTS_BATCHES);
         this.name = name;
         this.company = company;
         this.totalQuantity = quantity;
         this.nextExpiry = expiry;
         this.tags.addAll(tags);
-        this.batches.putAll(batches);
+        this.batches = new Batches(batches);
+    }
+
+    /**
+     * Creates a medicine whose batches are loaded by {@code batchLoader} the first time they are needed.
+     * {@code quantity} and {@code expiry} must be the total quantity and next expiry of the batches loaded.
+     */
+    private Medicine(Name name, Company company, Quantity quantity, Expiry expiry, Set<Tag> tags,
+            Supplier<Map<BatchNumber, Batch>> batchLoader) {
+        requireAllNonNull(name, company, quantity, expiry, tags, batchLoader);
+        checkArgument(isWithinLimits(tags, MAX_SIZE_TAG), MESSAGE_CONSTRAINTS_TAGS);
+        this.name = name;
+        this.company = company;
+        this.totalQuantity = quantity;
+        this.nextExpiry = expiry;
+        this.tags.addAll(tags);
+        this.batchLoader = batchLoader;
+    }
+
+    /**
+     * Creates a copy of {@code source} with the given batches, which share their unchanged parts with the batches of
+     * {@code source}.
+     */
+    private Medicine(Medicine source, PersistentSortedMap<BatchNumber, Batch> batches,
+            PersistentSortedMap<Batch, Batch> batchesByExpiry, Quantity totalQuantity) {
+        this.name = source.name;
+        this.company = source.company;
+        this.totalQuantity = totalQuantity;
+        this.nextExpiry = batchesByExpiry.isEmpty() ? new Expiry("-") : batchesByExpiry.firstValue().getExpiry();
+        this.tags.addAll(source.tags);
+        this.batches = new Batches(batches, batchesByExpiry);
+    }
+
+    /**
+     * Returns a medicine whose batches are loaded by {@code batchLoader} the first time they are needed, such as
+     * when they are shown, searched, exported or updated. {@code batchLoader} is called at most once, and may be
+     * called on any thread.
+     * {@code quantity} and {@code expiry} must be the total quantity and next expiry of the batches loaded.
+     */
+    public static Medicine withBatchLoader(Name name, Company company, Quantity quantity, Expiry expiry,
+            Set<Tag> tags, Supplier<Map<BatchNumber, Batch>> batchLoader) {
+        return new Medicine(name, company, quantity, expiry, tags, batchLoader);
+    }
+
+    /**
+     * Returns true if the batches of this medicine have been loaded.
+     */
+    public boolean isBatchesLoaded() {
+        return batches != null;
+    }
+
+    /**
+     * Returns the batches of this medicine, loading them if they have not been loaded yet.
+     *
+     * @throws IllegalArgumentException if the medicine would exceed the maximum number of batches.
+     */
+    private Batches getLoadedBatches() {
+        Batches loadedBatches = batches;
+        if (loadedBatches != null) {
+            return loadedBatches;
+        }
+
+        synchronized (this) {
+            if (batches == null) {
+                batches = new Batches(batchLoader.get());
+                batchLoader = null;
+            }
+            return batches;
+        }
     }
 
     private boolean isWithinLimits(Set<?> set, int limit) {
         return set.size() <= limit;
     }
 
+    /**
+     * Returns a copy of this medicine with {@code batch} added, replacing any batch with the same batch number.
+     * The total quantity and next expiry are updated from the changed batch alone, in O(log b) time for b batches.
+     *
+     * @throws IllegalArgumentException if the medicine would exceed the maximum number of batches or total quantity.
+     */
+    public Medicine withBatch(Batch batch) {
+        requireNonNull(batch);
+        PersistentSortedMap<BatchNumber, Batch> batches = getLoadedBatches().byNumber;
+        PersistentSortedMap<Batch, Batch> batchesByExpiry = getLoadedBatches().byExpiry;
+        Batch replacedBatch = batches.get(batch.getBatchNumber());
+        checkArgument(replacedBatch != null || batches.size() < MAX_SIZE_BATCH, MESSAGE_CONSTRAINTS_BATCHES);
+
+        PersistentSortedMap<Batch, Batch> remainingBatchesByExpiry = replacedBatch == null
+                ? batchesByExpiry
+                : batchesByExpiry.remove(replacedBatch);
+        return new Medicine(this, batches.put(batch.getBatchNumber(), batch),
+                remainingBatchesByExpiry.put(batch, batch), getUpdatedTotalQuantity(replacedBatch, batch));
+    }
+
+    /**
+     * Returns a copy of this medicine without the batch numbered {@code batchNumber}, or this medicine if it has no
+     * such batch. The total quantity and next expiry are updated in O(log b) time for b batches.
+     */
+    public Medicine withoutBatch(BatchNumber batchNumber) {
+        requireNonNull(batchNumber);
+        PersistentSortedMap<BatchNumber, Batch> batches = getLoadedBatches().byNumber;
+        Batch removedBatch = batches.get(batchNumber);
+        if (removedBatch == null) {
+            return this;
+        }
+
+        return new Medicine(this, batches.remove(batchNumber), getLoadedBatches().byExpiry.remove(removedBatch),
+                getUpdatedTotalQuantity(removedBatch, null));
+    }
+
+    /**
+     * Returns the total quantity after replacing {@code removedBatch} with {@code addedBatch}, either of which may be
+     * null.
+     */
+    private Quantity getUpdatedTotalQuantity(Batch removedBatch, Batch addedBatch) {
+        int quantity = totalQuantity.getNumericValue();
+        if (removedBatch != null) {
+            quantity -= removedBatch.getQuantity().getNumericValue();
+        }
+        if (addedBatch != null) {
+            quantity += addedBatch.getQuantity().getNumericValue();
+        }
+        return new Quantity(quantity);
+    }
+
     public Name getName() {
         return name;
     }
@@ -87,11 +222,49 @@ public class Medicine implements Comparable<Medicine> {
      * if modification is attempted.
      */
     public Map<BatchNumber, Batch> getBatches() {
-        return Collections.unmodifiableMap(batches);
+        return getLoadedBatches().byNumber.asMap();
+    }
+
+    /**
+     * Returns the batches in first-expiry-first-out order, that is, by expiry date and then by batch number.
+     */
+    public Iterable<Batch> getBatchesByExpiry() {
+        return getLoadedBatches().byExpiry.values();
+    }
+
+    /**
+     * Returns the batches expiring on or before {@code date}, in first-expiry-first-out order.
+     * Takes O(log b + k) time for b batches, k of which are returned.
+     */
+    public List<Batch> getBatchesExpiringBy(LocalDate date) {
+        requireNonNull(date);
+        List<Batch> expiringBatches = new ArrayList<>();
+        getLoadedBatches().byExpiry.valuesWhile(batch -> isExpiringBy(batch, date)).forEach(expiringBatches::add);
+        return expiringBatches;
     }
 
+    private static boolean isExpiringBy(Batch batch, LocalDate date) {
+        LocalDate expiryDate = batch.getExpiry().getExpiryDate();
+        return expiryDate == null || !expiryDate.isAfter(date);
+    }
+
+    /**
+     * Calls {@code action} with the batch of this medicine and the batch of {@code other} for each batch number whose
+     * batches differ between the two medicines, passing null for a batch missing from either medicine.
+     * Batches shared with a medicine this one was derived from, such as by {@link #withBatch(Batch)}, are skipped
+     * without being compared.
+     */
+    public void forEachBatchDifference(Medicine other, BiConsumer<Batch, Batch> action) {
+        requireAllNonNull(other, action);
+        getLoadedBatches().byNumber.forEachDifference(other.getLoadedBatches().byNumber, action);
+    }
+
+    /**
+     * Returns the batches that satisfy {@code predicate}, in first-expiry-first-out order.
+     */
     public FilteredList<Batch> getFilteredBatch(Predicate<Batch> predicate) {
-        ObservableList<Batch> batches = FXCollections.observableArrayList(getBatches().values());
+        ObservableList<Batch> batches = FXCollections.observableArrayList();
+        getBatchesByExpiry().forEach(batches::add);
         return batches.filtered(predicate);
     }
 
@@ -143,7 +316,7 @@ public class Medicine implements Comparable<Medicine> {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, company, totalQuantity, nextExpiry, tags, batches);
+        return Objects.hash(name, company, totalQuantity, nextExpiry, tags, getLoadedBatches().byNumber);
     }
 
     @Override
@@ -162,4 +335,32 @@ public class Medicine implements Comparable<Medicine> {
 
         return builder.toString();
     }
+
+    /**
+     * The batches of a medicine, by batch number and in first-expiry-first-out order.
+     */
+    private static class Batches {
+        private final PersistentSortedMap<BatchNumber, Batch> byNumber;
+        private final PersistentSortedMap<Batch, Batch> byExpiry;
+
+        /**
+         * Creates the batches in {@code batches}.
+         *
+         * @throws IllegalArgumentException if there are more than the maximum number of batches.
+         */
+        Batches(Map<BatchNumber, Batch> batches) {
+            checkArgument(batches.size() <= MAX_SIZE_BATCH, MESSAGE_CONSTRAINTS_BATCHES);
+            byNumber = PersistentSortedMap.copyOf(BATCH_NUMBER_ORDER, batches);
+            PersistentSortedMap<Batch, Batch> batchesByExpiry = PersistentSortedMap.empty(BATCH_EXPIRY_ORDER);
+            for (Batch batch : byNumber.values()) {
+                batchesByExpiry = batchesByExpiry.put(batch, batch);
+            }
+            byExpiry = batchesByExpiry;
+        }
+
+        Batches(PersistentSortedMap<BatchNumber, Batch> byNumber, PersistentSortedMap<Batch, Batch> byExpiry) {
+            this.byNumber = byNumber;
+            this.byExpiry = byExpiry;
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package seedu.address.model.medicine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity fields of a Medicine, i.e. its name and the company it was purchased from.
+ * Two medicines have equal identities if and only if {@code Medicine#isSameMedicine(Medicine)} holds.
+ * Guarantees: immutable.
+ */
+public class MedicineIdentity {
+    private final Name name;
+    private final Company company;
+
+    public MedicineIdentity(Medicine medicine) {
+        requireNonNull(medicine);
+        this.name = medicine.getName();
+        this.company = medicine.getCompany();
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public Company getCompany() {
+        return company;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MedicineIdentity // instanceof handles nulls
+                && name.equals(((MedicineIdentity) other).name)
+                && company.equals(((MedicineIdentity) other).company)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, company);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + company + ")";
+    }
+}
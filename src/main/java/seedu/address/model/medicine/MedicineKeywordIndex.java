@@ -0,0 +1,269 @@
+package seedu.address.model.medicine;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each word in a field of the medicines in a {@code UniqueMedicineList} to the medicines
+ * containing that word in that field. Words are split on whitespace and compared case-insensitively, as in
+ * {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * Medicines are indexed by identity, so replacing a medicine with an updated medicine of the same identity only
+ * touches the words that changed. The batch numbers of a medicine whose batches have not been loaded are not
+ * indexed, so that indexing does not load them; such medicines are searched by batch number directly.
+ */
+public class MedicineKeywordIndex {
+
+    /**
+     * The fields of a medicine that are indexed.
+     */
+    public enum Field {
+        NAME, COMPANY, TAG, BATCH_NUMBER
+    }
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** For each field, the number of times each word appears in the field of each medicine. */
+    private final Map<Field, Map<String, Map<MedicineIdentity, Integer>>> wordCounts = new EnumMap<>(Field.class);
+    /** The medicines whose batch numbers are not indexed, as their batches were not loaded when they were added. */
+    private final Set<MedicineIdentity> unindexedBatches = new HashSet<>();
+    /** The number of times this index has been changed, so that resolved matches know when they are out of date. */
+    private long version;
+
+    MedicineKeywordIndex() {
+        for (Field field : Field.values()) {
+            wordCounts.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns a predicate matching the medicines in the list this index is kept for that have any of {@code words}
+     * as a word in {@code field}.
+     * The medicines matched are resolved once as the union of the medicines indexed under each word, and again only
+     * after the index changes, so testing each medicine is a single lookup in that union.
+     */
+    public Predicate<Medicine> matchingAnyWord(Field field, Collection<String> words) {
+        requireAllNonNull(field, words);
+        return new MatchingMedicines(field, words);
+    }
+
+    /**
+     * Adds the words of {@code medicine} to the index.
+     */
+    void add(Medicine medicine) {
+        version++;
+        MedicineIdentity identity = new MedicineIdentity(medicine);
+        forEachWord(medicine.getName().fullName, word -> addWord(Field.NAME, word, identity));
+        forEachWord(medicine.getCompany().companyName, word -> addWord(Field.COMPANY, word, identity));
+        medicine.getTags().forEach(tag -> forEachWord(tag.tagName, word -> addWord(Field.TAG, word, identity)));
+        addBatches(medicine, identity);
+    }
+
+    /**
+     * Removes the words of {@code medicine} from the index.
+     */
+    void remove(Medicine medicine) {
+        version++;
+        MedicineIdentity identity = new MedicineIdentity(medicine);
+        forEachWord(medicine.getName().fullName, word -> removeWord(Field.NAME, word, identity));
+        forEachWord(medicine.getCompany().companyName, word -> removeWord(Field.COMPANY, word, identity));
+        medicine.getTags().forEach(tag -> forEachWord(tag.tagName, word -> removeWord(Field.TAG, word, identity)));
+        if (!unindexedBatches.remove(identity)) {
+            medicine.getBatchesByExpiry().forEach(batch -> removeBatch(batch, identity));
+        }
+    }
+
+    /**
+     * Replaces the words of {@code target} in the index with those of {@code editedMedicine}.
+     * Only the tags and batches that differ are re-indexed if both medicines have the same identity.
+     */
+    void update(Medicine target, Medicine editedMedicine) {
+        requireAllNonNull(target, editedMedicine);
+        version++;
+        if (!target.isSameMedicine(editedMedicine)) {
+            remove(target);
+            add(editedMedicine);
+            return;
+        }
+
+        MedicineIdentity identity = new MedicineIdentity(target);
+        Set<Tag> removedTags = new HashSet<>(target.getTags());
+        removedTags.removeAll(editedMedicine.getTags());
+        Set<Tag> addedTags = new HashSet<>(editedMedicine.getTags());
+        addedTags.removeAll(target.getTags());
+        removedTags.forEach(tag -> forEachWord(tag.tagName, word -> removeWord(Field.TAG, word, identity)));
+        addedTags.forEach(tag -> forEachWord(tag.tagName, word -> addWord(Field.TAG, word, identity)));
+
+        if (unindexedBatches.contains(identity)) {
+            if (editedMedicine.isBatchesLoaded()) {
+                unindexedBatches.remove(identity);
+                addBatches(editedMedicine, identity);
+            }
+            return;
+        }
+        target.forEachBatchDifference(editedMedicine, (removedBatch, addedBatch) -> {
+            if (removedBatch != null) {
+                removeBatch(removedBatch, identity);
+            }
+            if (addedBatch != null) {
+                addBatch(addedBatch, identity);
+            }
+        });
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code replacement}.
+     */
+    void setIndex(MedicineKeywordIndex replacement) {
+        requireNonNull(replacement);
+        version++;
+        for (Field field : Field.values()) {
+            Map<String, Map<MedicineIdentity, Integer>> fieldWordCounts = new HashMap<>();
+            replacement.wordCounts.get(field).forEach((word, medicinesWithWord) ->
+                    fieldWordCounts.put(word, new HashMap<>(medicinesWithWord)));
+            wordCounts.put(field, fieldWordCounts);
+        }
+        unindexedBatches.clear();
+        unindexedBatches.addAll(replacement.unindexedBatches);
+    }
+
+    /**
+     * Removes every medicine from the index.
+     */
+    void clear() {
+        version++;
+        wordCounts.values().forEach(Map::clear);
+        unindexedBatches.clear();
+    }
+
+    /**
+     * Adds the batch numbers of {@code medicine} to the index if its batches are loaded, or records that they are
+     * not indexed otherwise.
+     */
+    private void addBatches(Medicine medicine, MedicineIdentity identity) {
+        if (medicine.isBatchesLoaded()) {
+            medicine.getBatchesByExpiry().forEach(batch -> addBatch(batch, identity));
+        } else {
+            unindexedBatches.add(identity);
+        }
+    }
+
+    /**
+     * Returns true if any of {@code words} is a word in a batch number of {@code medicine}, loading its batches.
+     */
+    private static boolean containsAnyBatchNumberWord(Medicine medicine, Collection<String> words) {
+        Set<String> normalizedWords = new HashSet<>();
+        words.forEach(word -> normalizedWords.add(normalize(word)));
+        normalizedWords.remove("");
+        for (Batch batch : medicine.getBatchesByExpiry()) {
+            for (String word : WHITESPACE.split(batch.getBatchNumber().batchNumber)) {
+                if (normalizedWords.contains(normalize(word))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addBatch(Batch batch, MedicineIdentity identity) {
+        forEachWord(batch.getBatchNumber().batchNumber, word -> addWord(Field.BATCH_NUMBER, word, identity));
+    }
+
+    private void removeBatch(Batch batch, MedicineIdentity identity) {
+        forEachWord(batch.getBatchNumber().batchNumber, word -> removeWord(Field.BATCH_NUMBER, word, identity));
+    }
+
+    private void addWord(Field field, String word, MedicineIdentity identity) {
+        wordCounts.get(field).computeIfAbsent(word, unused -> new HashMap<>()).merge(identity, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of {@code word} in {@code field} of the medicine identified by {@code identity}.
+     */
+    private void removeWord(Field field, String word, MedicineIdentity identity) {
+        Map<String, Map<MedicineIdentity, Integer>> fieldWordCounts = wordCounts.get(field);
+        Map<MedicineIdentity, Integer> medicinesWithWord = fieldWordCounts.get(word);
+        if (medicinesWithWord == null) {
+            return;
+        }
+
+        medicinesWithWord.computeIfPresent(identity, (unused, count) -> count == 1 ? null : count - 1);
+        if (medicinesWithWord.isEmpty()) {
+            fieldWordCounts.remove(word);
+        }
+    }
+
+    /**
+     * Calls {@code action} with each distinct word of {@code text}, normalized for lookups.
+     */
+    private static void forEachWord(String text, Consumer<String> action) {
+        Set<String> words = new HashSet<>();
+        for (String word : WHITESPACE.split(text)) {
+            String normalizedWord = normalize(word);
+            if (!normalizedWord.isEmpty() && words.add(normalizedWord)) {
+                action.accept(normalizedWord);
+            }
+        }
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The medicines with any of some words in a field, resolved from the index as the union of the medicines
+     * indexed under each word.
+     */
+    private class MatchingMedicines implements Predicate<Medicine> {
+        private final Field field;
+        private final Collection<String> words;
+        private Set<MedicineIdentity> matches;
+        private long matchesVersion;
+
+        MatchingMedicines(Field field, Collection<String> words) {
+            this.field = field;
+            this.words = words;
+        }
+
+        @Override
+        public boolean test(Medicine medicine) {
+            if (matches == null || matchesVersion != version) {
+                matches = resolveMatches();
+                matchesVersion = version;
+            }
+            MedicineIdentity identity = new MedicineIdentity(medicine);
+            if (field == Field.BATCH_NUMBER && unindexedBatches.contains(identity)) {
+                return containsAnyBatchNumberWord(medicine, words);
+            }
+            return matches.contains(identity);
+        }
+
+        /**
+         * Returns the union of the medicines indexed under each of the words in the field.
+         */
+        private Set<MedicineIdentity> resolveMatches() {
+            Map<String, Map<MedicineIdentity, Integer>> fieldWordCounts = wordCounts.get(field);
+            Set<MedicineIdentity> medicinesWithAnyWord = new HashSet<>();
+            for (String word : words) {
+                Map<MedicineIdentity, Integer> medicinesWithWord = fieldWordCounts.get(normalize(word));
+                if (medicinesWithWord != null) {
+                    medicinesWithAnyWord.addAll(medicinesWithWord.keySet());
+                }
+            }
+            return medicinesWithAnyWord;
+        }
+    }
+}
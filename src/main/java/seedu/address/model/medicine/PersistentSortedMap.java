@@ -0,0 +1,493 @@
+package seedu.address.model.medicine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable map sorted by a {@code Comparator}, backed by a balanced (AVL) binary tree.
+ * {@code put} and {@code remove} return a new map in O(log n) time, copying only the path to the changed entry and
+ * sharing every other node with this map, which is left unchanged.
+ *
+ * @param <K> type of the keys, which must be consistent with {@code equals} under the map's comparator.
+ * @param <V> type of the values.
+ */
+final class PersistentSortedMap<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Comparator<? super K> comparator, Node<K, V> root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty map sorted by {@code comparator}.
+     */
+    static <K, V> PersistentSortedMap<K, V> empty(Comparator<? super K> comparator) {
+        requireNonNull(comparator);
+        return new PersistentSortedMap<>(comparator, null);
+    }
+
+    /**
+     * Returns a map sorted by {@code comparator} with the entries of {@code map}.
+     * If {@code map} is a view of a {@code PersistentSortedMap} with the same comparator, that map is reused.
+     */
+    static <K, V> PersistentSortedMap<K, V> copyOf(Comparator<? super K> comparator, Map<K, V> map) {
+        requireNonNull(comparator);
+        requireNonNull(map);
+        if (map instanceof MapView && ((MapView<?, ?>) map).source().comparator == comparator) {
+            @SuppressWarnings("unchecked")
+            PersistentSortedMap<K, V> source = (PersistentSortedMap<K, V>) ((MapView<?, ?>) map).source();
+            return source;
+        }
+
+        List<Map.Entry<K, V>> entries = new ArrayList<>(map.entrySet());
+        entries.sort((first, second) -> comparator.compare(first.getKey(), second.getKey()));
+        return new PersistentSortedMap<>(comparator, build(entries, 0, entries.size()));
+    }
+
+    int size() {
+        return Node.size(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    V get(K key) {
+        Node<K, V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    boolean containsKey(K key) {
+        return find(key) != null;
+    }
+
+    /**
+     * Returns the value of the smallest key, or null if the map is empty.
+     */
+    V firstValue() {
+        return root == null ? null : Node.first(root).value;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, replacing any existing mapping of {@code key}.
+     */
+    PersistentSortedMap<K, V> put(K key, V value) {
+        requireNonNull(key);
+        Node<K, V> newRoot = putInSubtree(root, key, value);
+        return newRoot == root ? this : new PersistentSortedMap<>(comparator, newRoot);
+    }
+
+    /**
+     * Returns a map without any mapping of {@code key}.
+     */
+    PersistentSortedMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = removeFromSubtree(root, key);
+        return newRoot == root ? this : new PersistentSortedMap<>(comparator, newRoot);
+    }
+
+    /**
+     * Returns the values in ascending order of their keys.
+     */
+    Iterable<V> values() {
+        return () -> new NodeIterator<>(root, node -> node.value);
+    }
+
+    /**
+     * Returns the values in ascending order of their keys, up to but excluding the first key that fails
+     * {@code condition}. Takes O(log n + k) time to iterate over k values.
+     */
+    Iterable<V> valuesWhile(Predicate<? super K> condition) {
+        requireNonNull(condition);
+        return () -> new Iterator<V>() {
+            private final NodeIterator<K, V, Node<K, V>> nodes = new NodeIterator<>(root, node -> node);
+            private Node<K, V> nextNode = findNext();
+
+            private Node<K, V> findNext() {
+                if (!nodes.hasNext()) {
+                    return null;
+                }
+                Node<K, V> node = nodes.next();
+                return condition.test(node.key) ? node : null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public V next() {
+                if (nextNode == null) {
+                    throw new NoSuchElementException();
+                }
+                V value = nextNode.value;
+                nextNode = findNext();
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Calls {@code action} with the values of each key mapped differently in this map and {@code other}, passing
+     * null for a key missing from either map. Subtrees shared by the two maps are skipped without being visited, so
+     * comparing a map with one derived from it by a few {@code put} or {@code remove} calls takes O(k log n) time for
+     * k changed keys.
+     */
+    void forEachDifference(PersistentSortedMap<K, V> other, BiConsumer<? super V, ? super V> action) {
+        requireNonNull(other);
+        requireNonNull(action);
+        Deque<Pending<K, V>> pendingInThis = new ArrayDeque<>();
+        Deque<Pending<K, V>> pendingInOther = new ArrayDeque<>();
+        Pending.pushSubtree(pendingInThis, root);
+        Pending.pushSubtree(pendingInOther, other.root);
+
+        while (!pendingInThis.isEmpty() || !pendingInOther.isEmpty()) {
+            Pending<K, V> nextInThis = pendingInThis.peek();
+            Pending<K, V> nextInOther = pendingInOther.peek();
+
+            if (nextInThis != null && nextInOther != null && nextInThis.node == nextInOther.node
+                    && nextInThis.isSubtree == nextInOther.isSubtree) {
+                // the same keys and values come next in both maps
+                pendingInThis.pop();
+                pendingInOther.pop();
+            } else if (nextInThis != null && nextInThis.isSubtree && (nextInOther == null || !nextInOther.isSubtree
+                    || nextInThis.node.height >= nextInOther.node.height)) {
+                Pending.expand(pendingInThis);
+            } else if (nextInOther != null && nextInOther.isSubtree) {
+                Pending.expand(pendingInOther);
+            } else {
+                int comparison = nextInThis == null ? 1
+                        : nextInOther == null ? -1
+                        : comparator.compare(nextInThis.node.key, nextInOther.node.key);
+                if (comparison < 0) {
+                    action.accept(pendingInThis.pop().node.value, null);
+                } else if (comparison > 0) {
+                    action.accept(null, pendingInOther.pop().node.value);
+                } else {
+                    V valueInThis = pendingInThis.pop().node.value;
+                    V valueInOther = pendingInOther.pop().node.value;
+                    if (!Objects.equals(valueInThis, valueInOther)) {
+                        action.accept(valueInThis, valueInOther);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable {@code Map} view of this map, which iterates in ascending order of keys.
+     */
+    Map<K, V> asMap() {
+        return new MapView<>(this);
+    }
+
+    /**
+     * Returns the node with {@code key}, or null if there is none.
+     */
+    private Node<K, V> find(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(key, node.key);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of the subtree rooted at {@code node} with {@code key} mapped to {@code value}.
+     */
+    private Node<K, V> putInSubtree(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+
+        int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            return Node.balance(node.key, node.value, putInSubtree(node.left, key, value), node.right);
+        } else if (comparison > 0) {
+            return Node.balance(node.key, node.value, node.left, putInSubtree(node.right, key, value));
+        } else if (node.value == value) {
+            return node;
+        } else {
+            return new Node<>(key, value, node.left, node.right);
+        }
+    }
+
+    /**
+     * Returns a copy of the subtree rooted at {@code node} without {@code key}, or {@code node} itself if the subtree
+     * does not contain {@code key}.
+     */
+    private Node<K, V> removeFromSubtree(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            Node<K, V> left = removeFromSubtree(node.left, key);
+            return left == node.left ? node : Node.balance(node.key, node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> right = removeFromSubtree(node.right, key);
+            return right == node.right ? node : Node.balance(node.key, node.value, node.left, right);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<K, V> successor = Node.first(node.right);
+            return Node.balance(successor.key, successor.value, node.left, Node.removeFirst(node.right));
+        }
+    }
+
+    /**
+     * Builds a balanced tree from {@code entries[from, to)}, which must be sorted and free of duplicate keys.
+     */
+    private static <K, V> Node<K, V> build(List<Map.Entry<K, V>> entries, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Map.Entry<K, V> entry = entries.get(middle);
+        return new Node<>(entry.getKey(), entry.getValue(), build(entries, from, middle),
+                build(entries, middle + 1, to));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersistentSortedMap // instanceof handles nulls
+                && asMap().equals(((PersistentSortedMap<?, ?>) other).asMap()));
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    /**
+     * A node of the tree. Nodes are never modified once created, so they can be shared between maps.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+
+        private static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static int size(Node<?, ?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        /**
+         * Returns the node with the smallest key in the subtree rooted at {@code node}.
+         */
+        private static <K, V> Node<K, V> first(Node<K, V> node) {
+            Node<K, V> first = node;
+            while (first.left != null) {
+                first = first.left;
+            }
+            return first;
+        }
+
+        /**
+         * Returns a copy of the subtree rooted at {@code node} without its smallest key.
+         */
+        private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            return balance(node.key, node.value, removeFirst(node.left), node.right);
+        }
+
+        /**
+         * Returns a node with the given contents, rotated if {@code left} and {@code right} differ in height by 2.
+         */
+        private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+            if (height(left) > height(right) + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+                }
+                Node<K, V> pivot = left.right;
+                return new Node<>(pivot.key, pivot.value, new Node<>(left.key, left.value, left.left, pivot.left),
+                        new Node<>(key, value, pivot.right, right));
+            }
+
+            if (height(right) > height(left) + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+                }
+                Node<K, V> pivot = right.left;
+                return new Node<>(pivot.key, pivot.value, new Node<>(key, value, left, pivot.left),
+                        new Node<>(right.key, right.value, pivot.right, right.right));
+            }
+
+            return new Node<>(key, value, left, right);
+        }
+    }
+
+    /**
+     * A part of a tree not yet visited by {@code forEachDifference}: either a whole subtree, or just the entry of a
+     * node whose left subtree has already been visited.
+     */
+    private static final class Pending<K, V> {
+        private final Node<K, V> node;
+        private final boolean isSubtree;
+
+        private Pending(Node<K, V> node, boolean isSubtree) {
+            this.node = node;
+            this.isSubtree = isSubtree;
+        }
+
+        private static <K, V> void pushSubtree(Deque<Pending<K, V>> pending, Node<K, V> node) {
+            if (node != null) {
+                pending.push(new Pending<>(node, true));
+            }
+        }
+
+        /**
+         * Replaces the subtree on top of {@code pending} with its left subtree, its entry and its right subtree, so
+         * that the left subtree is visited first.
+         */
+        private static <K, V> void expand(Deque<Pending<K, V>> pending) {
+            Node<K, V> node = pending.pop().node;
+            pushSubtree(pending, node.right);
+            pending.push(new Pending<>(node, false));
+            pushSubtree(pending, node.left);
+        }
+    }
+
+    /**
+     * Maps a tree node to the element returned by a {@code NodeIterator}.
+     */
+    private interface NodeMapper<K, V, T> {
+        T map(Node<K, V> node);
+    }
+
+    /**
+     * Iterates over the nodes of a tree in ascending order of keys.
+     */
+    private static final class NodeIterator<K, V, T> implements Iterator<T> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+        private final NodeMapper<K, V, T> mapper;
+
+        private NodeIterator(Node<K, V> root, NodeMapper<K, V, T> mapper) {
+            this.mapper = mapper;
+            pushLeftmostPath(root);
+        }
+
+        private void pushLeftmostPath(Node<K, V> node) {
+            for (Node<K, V> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = path.pop();
+            pushLeftmostPath(node.right);
+            return mapper.map(node);
+        }
+    }
+
+    /**
+     * An unmodifiable {@code Map} view of a {@code PersistentSortedMap}.
+     */
+    private static final class MapView<K, V> extends AbstractMap<K, V> {
+        private final PersistentSortedMap<K, V> source;
+
+        private MapView(PersistentSortedMap<K, V> source) {
+            this.source = source;
+        }
+
+        private PersistentSortedMap<K, V> source() {
+            return source;
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            try {
+                return key == null ? null : source.get((K) key);
+            } catch (ClassCastException cce) {
+                return null;
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean containsKey(Object key) {
+            try {
+                return key != null && source.containsKey((K) key);
+            } catch (ClassCastException cce) {
+                return false;
+            }
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new NodeIterator<>(source.root,
+                        node -> new AbstractMap.SimpleImmutableEntry<>(node.key, node.value));
+                }
+
+                @Override
+                public int size() {
+                    return source.size();
+                }
+            };
+        }
+    }
+}
@@ -28,6 +28,16 @@ public class Quantity implements Comparable<Quantity> {
         value = Integer.parseInt(quantity);
     }
 
+    /**
+     * Constructs a {@code Quantity}.
+     *
+     * @param quantity A quantity between {@link #MIN_QUANTITY} and {@link #MAX_QUANTITY}.
+     */
+    public Quantity(int quantity) {
+        checkArgument(quantity >= MIN_QUANTITY && quantity <= MAX_QUANTITY, MESSAGE_CONSTRAINTS);
+        value = quantity;
+    }
+
     /**
      * Returns true if a given string is a valid quantity.
      */
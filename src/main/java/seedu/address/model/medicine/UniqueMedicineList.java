@@ -3,9 +3,15 @@ package seedu.address.model.medicine;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +27,9 @@ import seedu.address.model.medicine.exceptions.MedicineNotFoundException;
  * of a medicine uses Medicine#equals(Object) so as to ensure that the medicine with exactly the same fields will be
  * removed.
  *
+ * Medicines are also indexed by their identity fields (name and company), so that identity checks do not need to
+ * scan the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Medicine#isSameMedicine(Medicine)
@@ -32,13 +41,15 @@ public class UniqueMedicineList implements Iterable<Medicine> {
             Comparator.naturalOrder());
     private final ObservableList<Medicine> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<MedicineIdentity, Medicine> identityIndex = new HashMap<>();
+    private final MedicineKeywordIndex keywordIndex = new MedicineKeywordIndex();
 
     /**
      * Returns true if the list contains an equivalent medicine as the given argument.
      */
     public boolean contains(Medicine toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameMedicine);
+        return identityIndex.containsKey(new MedicineIdentity(toCheck));
     }
 
     /**
@@ -50,6 +61,8 @@ public class UniqueMedicineList implements Iterable<Medicine> {
         if (contains(toAdd)) {
             throw new DuplicateMedicineException();
         }
+        identityIndex.put(new MedicineIdentity(toAdd), toAdd);
+        keywordIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -61,8 +74,7 @@ public class UniqueMedicineList implements Iterable<Medicine> {
     public void setMedicine(Medicine target, Medicine editedMedicine) {
         requireAllNonNull(target, editedMedicine);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!isIndexed(target)) {
             throw new MedicineNotFoundException();
         }
 
@@ -70,6 +82,10 @@ public class UniqueMedicineList implements Iterable<Medicine> {
             throw new DuplicateMedicineException();
         }
 
+        int index = internalList.indexOf(target);
+        identityIndex.remove(new MedicineIdentity(target));
+        identityIndex.put(new MedicineIdentity(editedMedicine), editedMedicine);
+        keywordIndex.update(target, editedMedicine);
         internalList.set(index, editedMedicine);
     }
 
@@ -79,29 +95,94 @@ public class UniqueMedicineList implements Iterable<Medicine> {
      */
     public void remove(Medicine toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!isIndexed(toRemove)) {
             throw new MedicineNotFoundException();
         }
+        identityIndex.remove(new MedicineIdentity(toRemove));
+        keywordIndex.remove(toRemove);
+        internalList.remove(toRemove);
+    }
+
+    /**
+     * Replaces the medicines {@code removed}, which must be found in that order from index {@code from} of the list,
+     * with {@code added}, firing a single change for just that part of the list.
+     * The resulting list must not contain duplicate medicines.
+     */
+    public void replaceMedicines(int from, List<Medicine> removed, List<Medicine> added) {
+        requireAllNonNull(removed, added);
+        if (from < 0 || from + removed.size() > internalList.size()
+                || !internalList.subList(from, from + removed.size()).equals(removed)) {
+            throw new MedicineNotFoundException();
+        }
+
+        Set<MedicineIdentity> removedIdentities = new HashSet<>();
+        removed.forEach(medicine -> removedIdentities.add(new MedicineIdentity(medicine)));
+        Map<MedicineIdentity, Medicine> addedIndex = indexUniqueMedicines(added);
+        if (addedIndex.keySet().stream()
+                .anyMatch(identity -> identityIndex.containsKey(identity) && !removedIdentities.contains(identity))) {
+            throw new DuplicateMedicineException();
+        }
+
+        identityIndex.keySet().removeAll(removedIdentities);
+        identityIndex.putAll(addedIndex);
+        if (removed.size() == 1 && added.size() == 1) {
+            keywordIndex.update(removed.get(0), added.get(0));
+        } else {
+            removed.forEach(keywordIndex::remove);
+            added.forEach(keywordIndex::add);
+        }
+
+        if (removed.size() == internalList.size()) {
+            internalList.setAll(added);
+        } else if (removed.size() == 1 && added.size() == 1) {
+            internalList.set(from, added.get(0));
+        } else {
+            internalList.subList(from, from + removed.size()).clear();
+            internalList.addAll(from, added);
+        }
     }
 
     public void setMedicines(UniqueMedicineList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        keywordIndex.setIndex(replacement.keywordIndex);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code medicines}.
      * {@code medicines} must not contain duplicate medicines.
+     *
+     * @throws DuplicateMedicineException listing every medicine whose identity is already taken by an earlier
+     *     medicine in {@code medicines}.
      */
     public void setMedicines(List<Medicine> medicines) {
         requireAllNonNull(medicines);
-        if (!medicinesAreUnique(medicines)) {
-            throw new DuplicateMedicineException();
-        }
+        Map<MedicineIdentity, Medicine> replacementIndex = indexUniqueMedicines(medicines);
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        keywordIndex.clear();
+        medicines.forEach(keywordIndex::add);
         internalList.setAll(medicines);
     }
 
+    /**
+     * Returns true if the exact {@code medicine} (by {@code Medicine#equals(Object)}) is in the list.
+     */
+    private boolean isIndexed(Medicine medicine) {
+        return medicine.equals(identityIndex.get(new MedicineIdentity(medicine)));
+    }
+
+    /**
+     * Returns the keyword index of the medicines in this list, which is updated before the list itself so that it is
+     * up to date when listeners of the list are notified.
+     */
+    public MedicineKeywordIndex getKeywordIndex() {
+        return keywordIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -127,16 +208,23 @@ public class UniqueMedicineList implements Iterable<Medicine> {
     }
 
     /**
-     * Returns true if {@code medicines} contains only unique medicines.
+     * Builds the identity index of {@code medicines} in a single pass.
+     *
+     * @throws DuplicateMedicineException if {@code medicines} does not contain only unique medicines.
      */
-    private boolean medicinesAreUnique(List<Medicine> medicines) {
-        for (int i = 0; i < medicines.size() - 1; i++) {
-            for (int j = i + 1; j < medicines.size(); j++) {
-                if (medicines.get(i).isSameMedicine(medicines.get(j))) {
-                    return false;
-                }
+    private static Map<MedicineIdentity, Medicine> indexUniqueMedicines(Collection<Medicine> medicines) {
+        Map<MedicineIdentity, Medicine> index = new HashMap<>();
+        List<Medicine> duplicates = new ArrayList<>();
+        for (Medicine medicine : medicines) {
+            if (index.putIfAbsent(new MedicineIdentity(medicine), medicine) != null) {
+                duplicates.add(medicine);
             }
         }
-        return true;
+
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateMedicineException(duplicates);
+        }
+        return index;
     }
+
 }
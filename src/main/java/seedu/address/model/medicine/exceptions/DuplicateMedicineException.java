@@ -1,11 +1,37 @@
 package seedu.address.model.medicine.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.medicine.Medicine;
+
 /**
  * Signals that the operation will result in duplicate Medicines (Medicines are considered duplicates if they have the
  * same identity).
  */
 public class DuplicateMedicineException extends RuntimeException {
+    private final List<Medicine> duplicates;
+
     public DuplicateMedicineException() {
         super("Operation would result in duplicate medicines");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * @param duplicates every medicine whose identity was already taken by another medicine.
+     */
+    public DuplicateMedicineException(List<Medicine> duplicates) {
+        super("Operation would result in duplicate medicines: " + duplicates.stream()
+                .map(medicine -> medicine.getName() + " (" + medicine.getCompany() + ")")
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the medicines found to be duplicates, or an empty list if they were not recorded.
+     */
+    public List<Medicine> getDuplicates() {
+        return duplicates;
     }
 }
@@ -1,20 +1,19 @@
 package seedu.address.model.medicine.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.medicine.Batch;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
 
 /**
  * Tests that a {@code Medicine}'s {@code Batch} matches any of the keywords given.
  */
-public class BatchContainsKeywordsPredicate implements Predicate<Medicine> {
-    private final List<String> keywords;
+public class BatchContainsKeywordsPredicate extends ContainsKeywordsPredicate {
 
     public BatchContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        super(MedicineKeywordIndex.Field.BATCH_NUMBER, keywords);
     }
 
     @Override
@@ -33,6 +33,13 @@ public class BatchExpiryThresholdPredicate implements Predicate<Batch> {
         return threshold;
     }
 
+    /**
+     * Returns the latest expiry date of a batch that satisfies this predicate today.
+     */
+    public LocalDate getLatestExpiryDate() {
+        return LocalDate.now().plusDays(threshold.getNumericValue());
+    }
+
     /**
      * Calculates and returns number of days from batch's expiry date to today.
      * @param batch
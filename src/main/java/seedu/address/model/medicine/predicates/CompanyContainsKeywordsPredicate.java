@@ -1,19 +1,18 @@
 package seedu.address.model.medicine.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
 
 /**
  * Tests that a {@code Medicine}'s {@code Company} matches any of the keywords given.
  */
-public class CompanyContainsKeywordsPredicate implements Predicate<Medicine> {
-    private final List<String> keywords;
+public class CompanyContainsKeywordsPredicate extends ContainsKeywordsPredicate {
 
     public CompanyContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        super(MedicineKeywordIndex.Field.COMPANY, keywords);
     }
 
     @Override
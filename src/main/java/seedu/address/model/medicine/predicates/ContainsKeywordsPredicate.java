@@ -0,0 +1,31 @@
+package seedu.address.model.medicine.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
+
+/**
+ * Tests that a field of a {@code Medicine} matches any of the keywords given.
+ */
+public abstract class ContainsKeywordsPredicate implements Predicate<Medicine> {
+    protected final List<String> keywords;
+    private final MedicineKeywordIndex.Field field;
+
+    protected ContainsKeywordsPredicate(MedicineKeywordIndex.Field field, List<String> keywords) {
+        this.field = field;
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns a predicate giving the same results as this predicate for the medicines indexed by {@code index}, which
+     * resolves the matching medicines from the index once instead of splitting the field of each medicine into words.
+     */
+    public Predicate<Medicine> withIndex(MedicineKeywordIndex index) {
+        requireNonNull(index);
+        return index.matchingAnyWord(field, keywords);
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.address.model.medicine.predicates;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.function.Predicate;
 
 import seedu.address.model.medicine.Medicine;
@@ -19,8 +18,8 @@ public class MedicineExpiryThresholdPredicate implements Predicate<Medicine> {
 
     @Override
     public boolean test(Medicine medicine) {
-        return medicine.getNextExpiry().getExpiryDate() != null
-                && calculateDaysToExpiry(medicine) <= threshold.getNumericValue();
+        LocalDate nextExpiryDate = medicine.getNextExpiry().getExpiryDate();
+        return nextExpiryDate != null && !nextExpiryDate.isAfter(getLatestExpiryDate());
     }
 
     @Override
@@ -35,11 +34,9 @@ public class MedicineExpiryThresholdPredicate implements Predicate<Medicine> {
     }
 
     /**
-     * Calculates and returns number of days from batch's expiry date to today.
-     * @param medicine
-     * @return
+     * Returns the latest next expiry date of a medicine that satisfies this predicate today.
      */
-    private float calculateDaysToExpiry(Medicine medicine) {
-        return ChronoUnit.DAYS.between(LocalDate.now(), medicine.getNextExpiry().getExpiryDate());
+    public LocalDate getLatestExpiryDate() {
+        return LocalDate.now().plusDays(threshold.getNumericValue());
     }
 }
@@ -1,20 +1,19 @@
 package seedu.address.model.medicine.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Medicine}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Medicine> {
-    private final List<String> keywords;
+public class TagContainsKeywordsPredicate extends ContainsKeywordsPredicate {
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
-        this.keywords = keywords;
+        super(MedicineKeywordIndex.Field.TAG, keywords);
     }
 
     @Override
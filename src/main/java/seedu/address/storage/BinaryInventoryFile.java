@@ -0,0 +1,515 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.BatchNumber;
+import seedu.address.model.medicine.Company;
+import seedu.address.model.medicine.Expiry;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.Name;
+import seedu.address.model.medicine.Quantity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes inventory snapshots in a compact binary format. Integers are big-endian.
+ *
+ * A file starts with a header holding {@link #MAGIC}, the format version, the sequence number of the last inventory
+ * journal record in the snapshot, the number of medicines and the number of batches. Four string tables follow, for
+ * names, companies, tags and batch numbers, each holding its number of strings followed by each distinct string as
+ * its length in bytes and its UTF-8 bytes. The medicines come last, each written as the indices of its name and
+ * company, its total quantity, its next expiry, its number of tags, its number of batches and the indices of its
+ * tags, followed by a fixed-width record for each of its batches holding the index of its batch number, its quantity
+ * and its expiry. Expiries are stored as epoch days, with {@link #NO_EXPIRY} for an expiry without a date.
+ *
+ * Files are read through a buffer of fixed size. Each distinct string is converted into a model object once, with
+ * the strings of each table converted in parallel. When a file is read lazily, the batch records of each medicine are
+ * skipped after checking that they lie within the file, and are read and checked by a {@link LazyBatchReader} the
+ * first time the medicine needs its batches. The reader keeps the file open until it is detached, which must be done
+ * before the file is replaced.
+ */
+class BinaryInventoryFile {
+
+    public static final int MAGIC = 0x4D544253; // "MTBS"
+    public static final int VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported inventory file version %d.";
+    public static final String MESSAGE_CORRUPTED = "Inventory file is corrupted.";
+
+    private static final int NO_EXPIRY = Integer.MIN_VALUE;
+    private static final int BATCH_RECORD_SIZE = 3 * Integer.BYTES;
+    private static final long MAX_EPOCH_DAY = Expiry.MAX_DATE.toEpochDay();
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private BinaryInventoryFile() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     */
+    public static boolean isBinaryInventoryFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until the magic number is read or the file ends
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Adds the medicines in the file at {@code filePath} to {@code medicines}, in the order they were written,
+     * and returns the sequence number of the last journal record in the file.
+     *
+     * @throws IllegalValueException if the file is not in this format or there were any data constraints violated.
+     */
+    public static long read(Path filePath, List<Medicine> medicines) throws IOException, IllegalValueException {
+        return readFile(filePath, medicines, null);
+    }
+
+    /**
+     * Similar to {@link #read(Path, List)}, but the batches of each medicine are only read from the file by
+     * {@code batchReader} the first time they are needed. The position and number of the batch records of each
+     * medicine are checked against the size of the file, but the records themselves are not read.
+     */
+    public static long readLazily(LazyBatchReader batchReader, List<Medicine> medicines)
+            throws IOException, IllegalValueException {
+        return readFile(batchReader.filePath, medicines, batchReader);
+    }
+
+    /**
+     * Writes {@code medicines}, which contain the inventory journal records up to {@code journalSequence},
+     * to the file at {@code filePath}, replacing its contents.
+     */
+    public static void write(Path filePath, List<Medicine> medicines, long journalSequence) throws IOException {
+        StringTable names = new StringTable();
+        StringTable companies = new StringTable();
+        StringTable tags = new StringTable();
+        StringTable batchNumbers = new StringTable();
+        int batchCount = 0;
+        for (Medicine medicine : medicines) {
+            names.add(medicine.getName().fullName);
+            companies.add(medicine.getCompany().companyName);
+            medicine.getTags().forEach(tag -> tags.add(tag.tagName));
+            medicine.getBatches().keySet().forEach(batchNumber -> batchNumbers.add(batchNumber.batchNumber));
+            batchCount += medicine.getBatches().size();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChannelWriter writer = new ChannelWriter(channel);
+            writer.putInt(MAGIC);
+            writer.putInt(VERSION);
+            writer.putLong(journalSequence);
+            writer.putInt(medicines.size());
+            writer.putInt(batchCount);
+            for (StringTable table : new StringTable[] {names, companies, tags, batchNumbers}) {
+                table.writeTo(writer);
+            }
+
+            for (Medicine medicine : medicines) {
+                writer.putInt(names.indexOf(medicine.getName().fullName));
+                writer.putInt(companies.indexOf(medicine.getCompany().companyName));
+                writer.putInt(medicine.getTotalQuantity().getNumericValue());
+                writer.putInt(toEpochDay(medicine.getNextExpiry()));
+                writer.putInt(medicine.getTags().size());
+                writer.putInt(medicine.getBatches().size());
+                for (Tag tag : medicine.getTags()) {
+                    writer.putInt(tags.indexOf(tag.tagName));
+                }
+                for (Batch batch : medicine.getBatches().values()) {
+                    writer.putInt(batchNumbers.indexOf(batch.getBatchNumber().batchNumber));
+                    writer.putInt(batch.getQuantity().getNumericValue());
+                    writer.putInt(toEpochDay(batch.getExpiry()));
+                }
+            }
+            writer.flush();
+        }
+    }
+
+    /**
+     * Reads the medicines in the file at {@code filePath} into {@code medicines}, leaving their batches to be read
+     * by {@code batchReader} if it is not null, and returns the journal sequence number.
+     */
+    private static long readFile(Path filePath, List<Medicine> medicines, LazyBatchReader batchReader)
+            throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return readMedicines(new ChannelReader(channel), medicines, batchReader);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    /**
+     * Reads the medicines from {@code reader} into {@code medicines} and returns the journal sequence number.
+     */
+    private static long readMedicines(ChannelReader reader, List<Medicine> medicines, LazyBatchReader batchReader)
+            throws IOException, IllegalValueException {
+        if (reader.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        int version = reader.getInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        long journalSequence = reader.getLong();
+        int medicineCount = reader.getInt();
+        reader.getInt(); // the number of batches, which is not needed to read them
+
+        List<Name> names = readStringTable(reader, Name::new);
+        List<Company> companies = readStringTable(reader, Company::new);
+        List<Tag> tags = readStringTable(reader, Tag::new);
+        List<BatchNumber> batchNumbers = readStringTable(reader, BatchNumber::new);
+
+        for (int i = 0; i < medicineCount; i++) {
+            Name name = names.get(reader.getInt());
+            Company company = companies.get(reader.getInt());
+            Quantity totalQuantity = new Quantity(reader.getInt());
+            Expiry nextExpiry = fromEpochDay(reader.getInt());
+            int tagCount = reader.getInt();
+            int batchCount = reader.getInt();
+            if (tagCount < 0 || batchCount < 0 || batchCount > Medicine.MAX_SIZE_BATCH) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            Set<Tag> medicineTags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                medicineTags.add(tags.get(reader.getInt()));
+            }
+
+            int recordsSize = batchCount * BATCH_RECORD_SIZE;
+            if (recordsSize > reader.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            if (batchReader != null) {
+                int recordsPosition = Math.toIntExact(reader.position());
+                reader.skip(recordsSize);
+                medicines.add(Medicine.withBatchLoader(name, company, totalQuantity, nextExpiry, medicineTags, () ->
+                        batchReader.load(recordsPosition, recordsSize, batchNumbers)));
+            } else {
+                byte[] records = new byte[recordsSize];
+                reader.get(records);
+                medicines.add(new Medicine(name, company, totalQuantity, nextExpiry, medicineTags,
+                        toBatches(ByteBuffer.wrap(records), batchNumbers)));
+            }
+        }
+        return journalSequence;
+    }
+
+    /**
+     * Returns the batches of the batch records in {@code records}, checking that each of them is valid.
+     *
+     * @throws IllegalValueException if any of the records is invalid.
+     */
+    private static Map<BatchNumber, Batch> toBatches(ByteBuffer records, List<BatchNumber> batchNumbers)
+            throws IllegalValueException {
+        Map<BatchNumber, Batch> batches = new LinkedHashMap<>();
+        while (records.hasRemaining()) {
+            int batchNumberIndex = records.getInt();
+            int quantity = records.getInt();
+            int expiry = records.getInt();
+            boolean isValidRecord = batchNumberIndex >= 0 && batchNumberIndex < batchNumbers.size()
+                    && quantity >= Quantity.MIN_QUANTITY && quantity <= Quantity.MAX_QUANTITY
+                    && (expiry == NO_EXPIRY || expiry <= MAX_EPOCH_DAY);
+            if (!isValidRecord) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            BatchNumber batchNumber = batchNumbers.get(batchNumberIndex);
+            batches.put(batchNumber, new Batch(batchNumber, new Quantity(quantity), fromEpochDay(expiry)));
+        }
+        return batches;
+    }
+
+    /**
+     * Reads a string table from {@code reader}, then converts each string with {@code converter} in parallel,
+     * as the conversions validate each string.
+     *
+     * @throws IllegalValueException if the number of strings or the length of a string does not fit in the file.
+     */
+    private static <T> List<T> readStringTable(ChannelReader reader, Function<String, T> converter)
+            throws IOException, IllegalValueException {
+        int count = reader.getInt();
+        if (count < 0 || count > reader.remaining() / Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = reader.getInt();
+            if (length < 0 || length > reader.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            byte[] bytes = new byte[length];
+            reader.get(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return strings.parallelStream().map(converter).collect(Collectors.toList());
+    }
+
+    private static int toEpochDay(Expiry expiry) {
+        LocalDate expiryDate = expiry.getExpiryDate();
+        return expiryDate == null ? NO_EXPIRY : Math.toIntExact(expiryDate.toEpochDay());
+    }
+
+    private static Expiry fromEpochDay(int epochDay) {
+        return Expiry.fromDate(epochDay == NO_EXPIRY ? null : LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Reads the batches of the medicines read lazily from a file by {@link #readLazily}, the first time each medicine
+     * needs them. The file is kept open from the first batches read until the reader is detached from it.
+     */
+    static class LazyBatchReader {
+        private final Path filePath;
+        /** The file, or null if it is not open. Guarded by this reader. */
+        private FileChannel channel;
+        /** The contents of the file once the reader is detached from it, or null. Guarded by this reader. */
+        private byte[] detachedFile;
+
+        LazyBatchReader(Path filePath) {
+            this.filePath = requireNonNull(filePath);
+        }
+
+        /**
+         * Reads the whole file into memory and closes it, so that batches read after this do not depend on the file,
+         * which can then be replaced or deleted on any platform.
+         */
+        synchronized void detach() throws IOException {
+            if (detachedFile != null) {
+                return;
+            }
+            detachedFile = Files.readAllBytes(filePath);
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+
+        /**
+         * Returns the batches of the {@code recordsSize} bytes of batch records at {@code recordsPosition}.
+         *
+         * @throws UncheckedIOException if the file cannot be read.
+         * @throws IllegalStateException if the file has been cut short or any of the records is invalid.
+         */
+        synchronized Map<BatchNumber, Batch> load(int recordsPosition, int recordsSize,
+                List<BatchNumber> batchNumbers) {
+            ByteBuffer records = ByteBuffer.allocate(recordsSize);
+            try {
+                if (detachedFile != null) {
+                    records.put(detachedFile, recordsPosition, recordsSize);
+                } else {
+                    readFully(records, recordsPosition);
+                }
+                records.flip();
+                return toBatches(records, batchNumbers);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            } catch (IllegalValueException | IndexOutOfBoundsException e) {
+                throw new IllegalStateException(MESSAGE_CORRUPTED, e);
+            }
+        }
+
+        /**
+         * Fills {@code records} from the file at {@code position}, opening the file if it is not open.
+         */
+        private void readFully(ByteBuffer records, long position) throws IOException, IllegalValueException {
+            if (channel == null) {
+                channel = FileChannel.open(filePath, StandardOpenOption.READ);
+            }
+            while (records.hasRemaining()) {
+                if (channel.read(records, position + records.position()) < 0) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+            }
+        }
+    }
+
+    /**
+     * The distinct strings of one kind in a file, in the order they were first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+        void add(String string) {
+            indices.putIfAbsent(string, indices.size());
+        }
+
+        int indexOf(String string) {
+            return indices.get(string);
+        }
+
+        /**
+         * Writes the number of strings in the table, then the length and bytes of each string.
+         */
+        void writeTo(ChannelWriter writer) throws IOException {
+            writer.putInt(indices.size());
+            for (String string : indices.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writer.putInt(bytes.length);
+                writer.put(bytes);
+            }
+        }
+    }
+
+    /**
+     * Reads from a channel through a buffer of fixed size.
+     * Reading past the end of the channel throws a {@link BufferUnderflowException}.
+     */
+    private static class ChannelReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+        ChannelReader(FileChannel channel) {
+            this.channel = channel;
+            buffer.limit(0);
+        }
+
+        int getInt() throws IOException {
+            ensureRemaining(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        long getLong() throws IOException {
+            ensureRemaining(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        /**
+         * Reads {@code bytes.length} bytes into {@code bytes}, directly from the channel if they do not fit in the
+         * buffer.
+         */
+        void get(byte[] bytes) throws IOException {
+            if (bytes.length <= buffer.capacity()) {
+                ensureRemaining(bytes.length);
+                buffer.get(bytes);
+                return;
+            }
+            ByteBuffer target = ByteBuffer.wrap(bytes);
+            target.put(buffer);
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    throw new BufferUnderflowException();
+                }
+            }
+        }
+
+        /**
+         * Skips {@code count} bytes without reading them from the channel.
+         */
+        void skip(int count) throws IOException {
+            if (count <= buffer.remaining()) {
+                buffer.position(buffer.position() + count);
+                return;
+            }
+            channel.position(position() + count);
+            buffer.limit(0);
+        }
+
+        /**
+         * Returns the position in the channel of the next byte to be read.
+         */
+        long position() throws IOException {
+            return channel.position() - buffer.remaining();
+        }
+
+        /**
+         * Returns the number of bytes left to read in the channel.
+         */
+        long remaining() throws IOException {
+            return channel.size() - position();
+        }
+
+        /**
+         * Reads from the channel until at least {@code size} bytes are left in the buffer.
+         */
+        private void ensureRemaining(int size) throws IOException {
+            if (buffer.remaining() >= size) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < size && channel.read(buffer) >= 0) {
+                // keep reading until there are enough bytes or the channel ends
+            }
+            buffer.flip();
+            if (buffer.remaining() < size) {
+                throw new BufferUnderflowException();
+            }
+        }
+    }
+
+    /**
+     * Writes to a channel through a buffer of fixed size.
+     */
+    private static class ChannelWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+
+        ChannelWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        /**
+         * Writes {@code bytes}, directly to the channel if they do not fit in the buffer.
+         */
+        void put(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                writeFully(ByteBuffer.wrap(bytes));
+                return;
+            }
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+
+        /**
+         * Writes the contents of the buffer to the channel.
+         */
+        void flush() throws IOException {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int size) throws IOException {
+            if (buffer.remaining() < size) {
+                flush();
+            }
+        }
+
+        private void writeFully(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The formats medicines can be exported in.
+ */
+public enum ExportFormat {
+    /** The current list in the GUI as csv, with notifications for medicines that need attention. */
+    CSV("csv"),
+    /** The whole inventory as gzip-compressed csv, with a row for each batch. */
+    CSV_GZIP("csv.gz"),
+    /** The whole inventory as gzip-compressed JSON Lines, with a line for each medicine. */
+    JSONL_GZIP("jsonl.gz");
+
+    public static final String MESSAGE_CONSTRAINTS = "Export format must be one of csv, csv.gz or jsonl.gz.";
+
+    private final String fileExtension;
+
+    ExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the file extension of files in this format, without the leading dot, which is also the name the user
+     * types to choose the format.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format with the file extension {@code name}, ignoring case, if there is one.
+     */
+    public static Optional<ExportFormat> fromName(String name) {
+        requireNonNull(name);
+        String lowerCaseName = name.trim().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (format.fileExtension.equals(lowerCaseName)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.csv.CsvWrapper;
+import seedu.address.commons.util.csv.Exporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Exports the whole inventory, regardless of the current list in the GUI, to a gzip-compressed csv or JSON Lines
+ * file, for handing the inventory over to other systems.
+ *
+ * Each row is written straight into a fixed-size buffer in front of the compressor as it is reached, so the memory
+ * used does not grow with the size of the inventory.
+ * The csv has a row for each batch, written field by field without building an array of fields per row, and quoted
+ * in the same way as the csv written by {@link CsvWrapper}.
+ * Each line of the JSON Lines file is a medicine written through {@link JsonAdaptedMedicine}, so it is in the format
+ * of the inventory data file.
+ */
+public class InventoryExporter implements Exporter {
+
+    /** The size of the buffers in front of and inside the compressor. */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_HEADING = {"Name", "Batch Number", "Quantity", "Expiry Date", "Company",
+                                                 "Tags"};
+    private static final char CSV_QUOTE = '"';
+    private static final char CSV_SEPARATOR = ',';
+    private static final char LINE_END = '\n';
+
+    private final String fileName;
+    private final ExportFormat format;
+    private final List<Medicine> medicines;
+    private Path exportFilePath;
+
+    /**
+     * Creates an InventoryExporter that exports the inventory of {@code model} to a file named {@code fileName} in
+     * {@code format}, which must be compressed.
+     * The medicines of the inventory are copied, so the export is unaffected by later changes to the model.
+     */
+    public InventoryExporter(String fileName, ExportFormat format, Model model) {
+        requireAllNonNull(fileName, format, model);
+        if (format == ExportFormat.CSV) {
+            throw new IllegalArgumentException("The whole inventory is only exported to compressed formats.");
+        }
+        this.fileName = fileName;
+        this.format = format;
+        medicines = new ArrayList<>(model.getInventory().getMedicineList());
+    }
+
+    @Override
+    public String getExportedFileName() {
+        return fileName + "." + format.getFileExtension();
+    }
+
+    @Override
+    public void createFile() throws CommandException {
+        exportFilePath = CsvWrapper.createExportFile(fileName, "." + format.getFileExtension());
+    }
+
+    @Override
+    public boolean writeData(RowListener rowListener) throws CommandException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(exportFilePath), BUFFER_SIZE), StandardCharsets.UTF_8),
+                BUFFER_SIZE)) {
+            return format == ExportFormat.JSONL_GZIP
+                    ? writeJsonLines(writer, rowListener)
+                    : writeCsv(writer, rowListener);
+        } catch (IOException ioe) {
+            throw new CommandException(CsvWrapper.FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    @Override
+    public void doCleanUp() throws CommandException {
+        CsvWrapper.deleteExportFile(exportFilePath);
+    }
+
+    /**
+     * Writes a csv row for each batch of the medicines to {@code writer}.
+     * Medicines without any batches are left out, as in the csv written by {@link CsvWrapper}.
+     * @return Whether every row was written.
+     */
+    private boolean writeCsv(Writer writer, RowListener rowListener) throws IOException {
+        for (int i = 0; i < CSV_HEADING.length; i++) {
+            writeCsvField(writer, CSV_HEADING[i], i == 0);
+        }
+        writer.write(LINE_END);
+
+        long rowsWritten = 0;
+        for (Medicine medicine : medicines) {
+            String name = medicine.getName().fullName;
+            String company = medicine.getCompany().companyName;
+            String tags = joinTags(medicine);
+            for (Batch batch : medicine.getBatches().values()) {
+                writeCsvField(writer, name, true);
+                writeCsvField(writer, batch.getBatchNumber().batchNumber, false);
+                writeCsvField(writer, batch.getQuantity().toString(), false);
+                writeCsvField(writer, batch.getExpiry().toString(), false);
+                writeCsvField(writer, company, false);
+                writeCsvField(writer, tags, false);
+                writer.write(LINE_END);
+                if (!rowListener.onRowWritten(++rowsWritten)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes each medicine to {@code writer} as a JSON object on its own line.
+     * @return Whether every medicine was written.
+     */
+    private boolean writeJsonLines(Writer writer, RowListener rowListener) throws IOException {
+        long rowsWritten = 0;
+        try (JsonGenerator generator = JsonUtil.createGenerator(writer)) {
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(String.valueOf(LINE_END)));
+            for (Medicine medicine : medicines) {
+                generator.writeObject(new JsonAdaptedMedicine(medicine));
+                if (!rowListener.onRowWritten(++rowsWritten)) {
+                    return false;
+                }
+            }
+        }
+        if (rowsWritten > 0) {
+            writer.write(LINE_END);
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code field} to {@code writer} as a quoted csv field, doubling any quotes in it.
+     * @param isFirstField Whether the field is the first of its row, which is not preceded by a separator.
+     */
+    private static void writeCsvField(Writer writer, String field, boolean isFirstField) throws IOException {
+        if (!isFirstField) {
+            writer.write(CSV_SEPARATOR);
+        }
+        writer.write(CSV_QUOTE);
+        int start = 0;
+        for (int i = field.indexOf(CSV_QUOTE); i >= 0; i = field.indexOf(CSV_QUOTE, start)) {
+            writer.write(field, start, i + 1 - start);
+            writer.write(CSV_QUOTE);
+            start = i + 1;
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write(CSV_QUOTE);
+    }
+
+    /**
+     * Returns the names of the tags of {@code medicine}, separated by spaces.
+     */
+    private static String joinTags(Medicine medicine) {
+        StringJoiner tags = new StringJoiner(" ");
+        for (Tag tag : medicine.getTags()) {
+            tags.add(tag.tagName);
+        }
+        return tags.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The state of the most recent save of the inventory to storage.
+ * Guarantees: immutable.
+ */
+public class InventorySaveStatus {
+
+    /**
+     * The states a save of the inventory can be in.
+     */
+    public enum State {
+        SAVING, SAVED, FAILED
+    }
+
+    public static final InventorySaveStatus SAVING = new InventorySaveStatus(State.SAVING, null);
+    public static final InventorySaveStatus SAVED = new InventorySaveStatus(State.SAVED, null);
+
+    private final State state;
+    private final IOException failure;
+
+    private InventorySaveStatus(State state, IOException failure) {
+        this.state = state;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the status of a save that failed with {@code failure}.
+     */
+    public static InventorySaveStatus failed(IOException failure) {
+        requireNonNull(failure);
+        return new InventorySaveStatus(State.FAILED, failure);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the exception the save failed with, if it failed.
+     */
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof InventorySaveStatus // instanceof handles nulls
+                && state == ((InventorySaveStatus) other).state
+                && Objects.equals(failure, ((InventorySaveStatus) other).failure));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(state, failure);
+    }
+
+    @Override
+    public String toString() {
+        return state + getFailure().map(ioe -> ": " + ioe).orElse("");
+    }
+}
@@ -0,0 +1,482 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Inventory;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.exceptions.DuplicateMedicineException;
+
+/**
+ * A class to access Inventory data stored on the hard disk as a binary snapshot, together with a journal of the
+ * changes made since the snapshot was written.
+ *
+ * Each save appends a single line to the journal describing the part of the medicines list that changed, so the
+ * data written is proportional to the change rather than to the inventory. The json of each medicine written is
+ * cached, so a medicine that a later record covers unchanged is not converted again. Once the journal grows past a
+ * size or age limit, the saved medicines are written to a new snapshot in the background and the journal records it
+ * contains are dropped from the journal. Snapshots are written in the format of {@link BinaryInventoryFile}. A
+ * snapshot in the json format of {@link JsonInventoryStorage} is also read, and replaced by a binary snapshot at the
+ * next compaction.
+ *
+ * With lazy batch loading, the batches of the medicines in a binary snapshot are only read the first time they are
+ * needed, so that the inventory can be shown after a single pass over the other fields of its medicines. Batches
+ * not yet read are copied into memory before the snapshot is replaced.
+ */
+public class JournalInventoryStorage implements InventoryStorage {
+
+    public static final long DEFAULT_COMPACTION_SIZE = 1024 * 1024;
+    public static final Duration DEFAULT_COMPACTION_AGE = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournalInventoryStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final Path filePath;
+    private final long compactionSize;
+    private final Duration compactionAge;
+    private final boolean isLazyBatchLoading;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Inventory journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below describe the files at filePath and are guarded by this storage.
+
+    /** The medicines saved at {@code filePath}, or null if they are not known. Never modified once assigned. */
+    private List<Medicine> savedMedicines;
+    private long lastSequence;
+    private long journalSize;
+    /** When the oldest record in the journal was written, or null if the journal is empty. */
+    private Instant journalStarted;
+    private boolean isCompacting;
+    private Future<?> compaction = CompletableFuture.completedFuture(null);
+    /** The json of the medicines written to the journal. */
+    private final JsonMedicineCache medicineCache = new JsonMedicineCache();
+    /** The readers of the batches of medicines read lazily from the snapshot at {@code filePath}. */
+    private final List<BinaryInventoryFile.LazyBatchReader> snapshotBatchReaders = new ArrayList<>();
+
+    public JournalInventoryStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_SIZE, DEFAULT_COMPACTION_AGE);
+    }
+
+    /**
+     * Creates a storage that compacts its journal once it is at least {@code compactionSize} bytes long,
+     * or its oldest record is at least {@code compactionAge} old.
+     */
+    public JournalInventoryStorage(Path filePath, long compactionSize, Duration compactionAge) {
+        this(filePath, compactionSize, compactionAge, false);
+    }
+
+    /**
+     * Similar to {@link #JournalInventoryStorage(Path, long, Duration)}.
+     * If {@code isLazyBatchLoading} is true, the batches of the medicines in the snapshot at {@code filePath} are
+     * only read when they are first needed.
+     */
+    public JournalInventoryStorage(Path filePath, long compactionSize, Duration compactionAge,
+            boolean isLazyBatchLoading) {
+        requireNonNull(filePath);
+        requireNonNull(compactionAge);
+        this.filePath = filePath;
+        this.compactionSize = compactionSize;
+        this.compactionAge = compactionAge;
+        this.isLazyBatchLoading = isLazyBatchLoading;
+    }
+
+    /**
+     * Returns the path of the journal kept for the inventory snapshot at {@code inventoryFilePath}.
+     */
+    public static Path getJournalPath(Path inventoryFilePath) {
+        return inventoryFilePath.resolveSibling(inventoryFilePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Path getInventoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
+        return readInventory(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInventory()}.
+     * Reads the snapshot at {@code filePath} and replays the journal kept for it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(filePath) && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        Inventory inventory = new Inventory();
+        JournalReplay replay;
+        BinaryInventoryFile.LazyBatchReader batchReader = isLazyBatchLoading && filePath.equals(this.filePath)
+                ? new BinaryInventoryFile.LazyBatchReader(filePath) : null;
+        try {
+            List<Medicine> medicines = new ArrayList<>();
+            long snapshotSequence = Files.exists(filePath) ? readSnapshot(filePath, medicines, batchReader) : 0;
+            replay = replayJournal(journalPath, medicines, snapshotSequence);
+            inventory.setMedicines(medicines);
+        } catch (IllegalValueException | DuplicateMedicineException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            resumeJournal(inventory.getMedicineList(), replay, batchReader);
+        }
+        return Optional.of(inventory);
+    }
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        saveInventory(inventory, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInventory(ReadOnlyInventory)}.
+     * Only the changes since the last save are written if {@code filePath} is the file path of this storage and
+     * its contents are known. Otherwise, a new snapshot is written and any journal kept for it is discarded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        requireNonNull(inventory);
+        requireNonNull(filePath);
+        List<Medicine> medicines = new ArrayList<>(inventory.getMedicineList());
+
+        if (!filePath.equals(this.filePath)) {
+            Files.deleteIfExists(getJournalPath(filePath));
+            writeSnapshot(filePath, medicines, 0);
+            return;
+        }
+
+        synchronized (this) {
+            if (savedMedicines == null) {
+                Files.deleteIfExists(getJournalPath(filePath));
+                detachSnapshotBatchReaders();
+                writeSnapshot(filePath, medicines, 0);
+                savedMedicines = medicines;
+                lastSequence = 0;
+                journalSize = 0;
+                journalStarted = null;
+                return;
+            }
+
+            appendChange(medicines);
+            if (shouldCompact()) {
+                startCompaction();
+            }
+        }
+    }
+
+    /**
+     * Blocks until the compaction in progress, if any, has completed.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        Future<?> currentCompaction;
+        synchronized (this) {
+            currentCompaction = compaction;
+        }
+        currentCompaction.get();
+    }
+
+    /**
+     * Adds the medicines in the snapshot at {@code filePath}, which must exist, to {@code medicines} and returns
+     * the sequence number of the last journal record in the snapshot.
+     * The snapshot can be in the binary format or, as written by earlier versions or for import, in json.
+     * The batches of the medicines in a binary snapshot are read by {@code batchReader} when first needed if it is
+     * not null.
+     *
+     * @throws DataConversionException if the snapshot is not valid json.
+     * @throws IllegalValueException if the binary snapshot is corrupted or there were any data constraints violated.
+     */
+    private static long readSnapshot(Path filePath, List<Medicine> medicines,
+            BinaryInventoryFile.LazyBatchReader batchReader)
+            throws DataConversionException, IllegalValueException, IOException {
+        if (BinaryInventoryFile.isBinaryInventoryFile(filePath)) {
+            return batchReader != null
+                    ? BinaryInventoryFile.readLazily(batchReader, medicines)
+                    : BinaryInventoryFile.read(filePath, medicines);
+        }
+
+        try {
+            JsonInventoryReader snapshot = JsonInventoryReader.read(filePath);
+            medicines.addAll(snapshot.getMedicines());
+            return snapshot.getJournalSequence();
+        } catch (IOException ioe) {
+            logger.warning("Error reading snapshot " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} that are newer than {@code snapshotSequence}
+     * to {@code medicines}. A record cut short at the end of the journal, such as by a crash while it was being
+     * written, is ignored.
+     *
+     * @throws DataConversionException if a complete record in the journal is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated in a record.
+     */
+    private static JournalReplay replayJournal(Path journalPath, List<Medicine> medicines, long snapshotSequence)
+            throws DataConversionException, IllegalValueException, IOException {
+        JournalReplay replay = new JournalReplay(snapshotSequence);
+        if (!Files.exists(journalPath)) {
+            return replay;
+        }
+
+        byte[] journal = Files.readAllBytes(journalPath);
+        int lineStart = 0;
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] != LINE_SEPARATOR) {
+                continue;
+            }
+
+            String line = new String(journal, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException ioe) {
+                logger.warning("Error reading journal record in " + journalPath + ": " + ioe);
+                throw new DataConversionException(ioe);
+            }
+            if (record.getSequence() > replay.lastSequence) {
+                record.applyTo(medicines);
+                replay.lastSequence = record.getSequence();
+            }
+            lineStart = i + 1;
+        }
+
+        replay.validLength = lineStart;
+        if (lineStart < journal.length) {
+            logger.warning("Ignoring incomplete record at the end of " + journalPath);
+        }
+        return replay;
+    }
+
+    /**
+     * Records {@code medicines}, read from the files at the file path of this storage, as the saved medicines,
+     * so that later saves append to the journal. The journal is compacted if it has any records.
+     * {@code batchReader}, if not null, is detached before the snapshot is replaced.
+     */
+    private synchronized void resumeJournal(List<Medicine> medicines, JournalReplay replay,
+            BinaryInventoryFile.LazyBatchReader batchReader) throws IOException {
+        if (batchReader != null) {
+            snapshotBatchReaders.add(batchReader);
+        }
+        Path journalPath = getJournalPath(filePath);
+        if (Files.exists(journalPath) && Files.size(journalPath) > replay.validLength) {
+            try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                journal.truncate(replay.validLength);
+            }
+        }
+
+        savedMedicines = new ArrayList<>(medicines);
+        lastSequence = replay.lastSequence;
+        journalSize = replay.validLength;
+        journalStarted = journalSize > 0 ? Instant.now() : null;
+        if (journalSize > 0 && !isCompacting) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Appends a record of the changes from the saved medicines to {@code medicines} to the journal.
+     * The change recorded is the smallest range of the list outside of which both lists hold the same medicines.
+     */
+    private void appendChange(List<Medicine> medicines) throws IOException {
+        int commonSize = Math.min(savedMedicines.size(), medicines.size());
+        int prefix = 0;
+        while (prefix < commonSize && savedMedicines.get(prefix) == medicines.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonSize - prefix && savedMedicines.get(savedMedicines.size() - 1 - suffix)
+                == medicines.get(medicines.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int removed = savedMedicines.size() - prefix - suffix;
+        List<Medicine> added = medicines.subList(prefix, medicines.size() - suffix);
+        if (removed == 0 && added.isEmpty()) {
+            return;
+        }
+
+        String record = JsonAdaptedJournalRecord.toCompactJsonString(lastSequence + 1, prefix, removed, added,
+                medicineCache);
+        medicineCache.retainIfGrown(medicines);
+        byte[] line = (record + (char) LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+        Path journalPath = getJournalPath(filePath);
+        FileUtil.createParentDirsOfFile(journalPath);
+        try {
+            Files.write(journalPath, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            discardIncompleteRecord(journalPath);
+            throw ioe;
+        }
+
+        lastSequence++;
+        journalSize += line.length;
+        savedMedicines = medicines;
+        if (journalStarted == null) {
+            journalStarted = Instant.now();
+        }
+    }
+
+    /**
+     * Truncates the journal to the records known to have been written, so that later records are not appended
+     * after part of a record whose write failed.
+     */
+    private void discardIncompleteRecord(Path journalPath) {
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            journal.truncate(journalSize);
+        } catch (IOException ioe) {
+            logger.warning("Failed to discard incomplete journal record " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    private boolean shouldCompact() {
+        return !isCompacting && journalStarted != null
+                && (journalSize >= compactionSize
+                || !Duration.between(journalStarted, Instant.now()).minus(compactionAge).isNegative());
+    }
+
+    /**
+     * Writes the saved medicines to a new snapshot in the background, then drops the records it contains
+     * from the journal.
+     */
+    private void startCompaction() {
+        List<Medicine> medicines = savedMedicines;
+        long sequence = lastSequence;
+        long compactedSize = journalSize;
+        isCompacting = true;
+        compaction = compactor.submit(() -> compact(medicines, sequence, compactedSize));
+    }
+
+    /**
+     * Runs on the compactor thread.
+     */
+    private void compact(List<Medicine> medicines, long sequence, long compactedSize) {
+        try {
+            logger.fine("Compacting inventory journal up to record " + sequence);
+            synchronized (this) {
+                detachSnapshotBatchReaders();
+            }
+            writeSnapshot(filePath, medicines, sequence);
+            dropCompactedRecords(compactedSize);
+        } catch (IOException ioe) {
+            logger.warning("Failed to compact inventory journal " + StringUtil.getDetails(ioe));
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Removes the first {@code compactedSize} bytes of the journal, which hold the records in the latest snapshot.
+     * Records appended while the snapshot was being written are kept.
+     */
+    private synchronized void dropCompactedRecords(long compactedSize) throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        Path temporaryPath = getTemporaryPath(journalPath);
+        try (FileChannel source = FileChannel.open(journalPath, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = compactedSize;
+            while (position < journalSize) {
+                position += source.transferTo(position, journalSize - position, target);
+            }
+        }
+        moveReplacing(temporaryPath, journalPath);
+
+        journalSize -= compactedSize;
+        journalStarted = journalSize > 0 ? Instant.now() : null;
+    }
+
+    /**
+     * Detaches the readers of the batches of medicines read lazily from the snapshot at the file path of this
+     * storage, so that the snapshot can be replaced.
+     */
+    private void detachSnapshotBatchReaders() throws IOException {
+        for (BinaryInventoryFile.LazyBatchReader batchReader : snapshotBatchReaders) {
+            batchReader.detach();
+        }
+        snapshotBatchReaders.clear();
+    }
+
+    /**
+     * Writes {@code medicines} to a snapshot at {@code filePath}, replacing the snapshot there in a single step
+     * so that it is never left partially written.
+     */
+    private static void writeSnapshot(Path filePath, List<Medicine> medicines, long sequence) throws IOException {
+        Path temporaryPath = getTemporaryPath(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryInventoryFile.write(temporaryPath, medicines, sequence);
+        moveReplacing(temporaryPath, filePath);
+    }
+
+    private static Path getTemporaryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, atomically if the file system supports it.
+     */
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The result of replaying a journal.
+     */
+    private static class JournalReplay {
+        private long lastSequence;
+        private long validLength;
+
+        JournalReplay(long snapshotSequence) {
+            lastSequence = snapshotSequence;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * Jackson-friendly version of a change to the medicines list, recorded in an inventory journal.
+ * A record replaces the {@code removed} medicines starting at index {@code from} with the {@code added} medicines.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_OUT_OF_BOUNDS = "Journal record %d does not fit a list of %d medicines.";
+
+    private final Long sequence;
+    private final Integer from;
+    private final Integer removed;
+    private final List<JsonAdaptedMedicine> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") Long sequence, @JsonProperty("from") Integer from,
+            @JsonProperty("removed") Integer removed, @JsonProperty("added") List<JsonAdaptedMedicine> added) {
+        this.sequence = sequence;
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Returns the compact json of a record of a change replacing {@code removed} medicines starting at index
+     * {@code from} with {@code added}, taking the json of each added medicine from {@code medicineCache}.
+     */
+    public static String toCompactJsonString(long sequence, int from, int removed, List<Medicine> added,
+            JsonMedicineCache medicineCache) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = JsonUtil.createGenerator(json)) {
+            generator.writeStartObject();
+            generator.writeNumberField("sequence", sequence);
+            generator.writeNumberField("from", from);
+            generator.writeNumberField("removed", removed);
+            generator.writeArrayFieldStart("added");
+            for (Medicine medicine : added) {
+                generator.writeRawValue(medicineCache.toJson(medicine));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return json.toString();
+    }
+
+    /**
+     * Returns the position of this record in the journal. Records are numbered from 1 in the order they were made.
+     *
+     * @throws IllegalValueException if the sequence number is missing.
+     */
+    public long getSequence() throws IllegalValueException {
+        if (sequence == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "sequence"));
+        }
+        return sequence;
+    }
+
+    /**
+     * Applies the change this record describes to {@code medicines}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(List<Medicine> medicines) throws IllegalValueException {
+        if (from == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "from"));
+        }
+        if (removed == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "removed"));
+        }
+        if (from < 0 || removed < 0 || from + removed > medicines.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_OUT_OF_BOUNDS, getSequence(), medicines.size()));
+        }
+
+        List<Medicine> modelMedicines = new ArrayList<>();
+        for (JsonAdaptedMedicine jsonAdaptedMedicine : added) {
+            modelMedicines.add(jsonAdaptedMedicine.toModelType());
+        }
+        List<Medicine> replaced = medicines.subList(from, from + removed);
+        replaced.clear();
+        replaced.addAll(modelMedicines);
+    }
+
+}
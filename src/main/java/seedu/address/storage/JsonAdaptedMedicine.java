@@ -1,12 +1,14 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -126,4 +128,36 @@ class JsonAdaptedMedicine {
 
         return new Medicine(modelName, modelCompany, modelQuantity, modelExpiry, modelTags, medicineBatches);
     }
+
+    /**
+     * Converts {@code adaptedMedicines} into the model's {@code Medicine} objects in parallel, returning them in the
+     * same order.
+     *
+     * @throws IllegalValueException if the first adapted medicine in {@code adaptedMedicines} with data constraints
+     *     violated failed with it, regardless of the order in which they were converted.
+     * @throws IllegalArgumentException if the first adapted medicine in {@code adaptedMedicines} with data constraints
+     *     violated was rejected by the constructor of a model object instead.
+     */
+    public static List<Medicine> toModelTypes(List<JsonAdaptedMedicine> adaptedMedicines)
+            throws IllegalValueException {
+        Medicine[] medicines = new Medicine[adaptedMedicines.size()];
+        Exception[] errors = new Exception[adaptedMedicines.size()];
+        IntStream.range(0, medicines.length).parallel().forEach(i -> {
+            try {
+                medicines[i] = adaptedMedicines.get(i).toModelType();
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (Exception error : errors) {
+            if (error instanceof IllegalValueException) {
+                throw (IllegalValueException) error;
+            }
+            if (error != null) {
+                throw (IllegalArgumentException) error;
+            }
+        }
+        return Arrays.asList(medicines);
+    }
 }
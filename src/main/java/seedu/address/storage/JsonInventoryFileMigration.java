@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Moves the inventory kept in a json file, as named by the preferences of earlier versions, into a binary inventory
+ * file next to it. The binary inventory storages never open the json file itself, so it is left as it was.
+ */
+public class JsonInventoryFileMigration {
+
+    public static final String JSON_EXTENSION = ".json";
+    public static final String BINARY_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonInventoryFileMigration.class);
+
+    private JsonInventoryFileMigration() {}
+
+    /**
+     * Replaces the inventory file path in {@code userPrefs} by the path of a binary file next to it if it names a
+     * json file, and returns the json file path replaced.
+     */
+    public static Optional<Path> moveInventoryFilePath(UserPrefs userPrefs) {
+        Path filePath = userPrefs.getInventoryFilePath();
+        String fileName = filePath.getFileName().toString();
+        if (!fileName.endsWith(JSON_EXTENSION)) {
+            return Optional.empty();
+        }
+
+        String binaryFileName = fileName.substring(0, fileName.length() - JSON_EXTENSION.length()) + BINARY_EXTENSION;
+        userPrefs.setInventoryFilePath(filePath.resolveSibling(binaryFileName));
+        logger.info("Moving the inventory file path from " + filePath + " to " + userPrefs.getInventoryFilePath());
+        return Optional.of(filePath);
+    }
+
+    /**
+     * Reads the inventory in {@code storage}. If {@code storage} has no inventory but there is a json inventory file
+     * at {@code jsonFilePath}, the inventory in that file is saved to {@code storage} and returned instead.
+     *
+     * @throws DataConversionException if the inventory in {@code storage} or the json file is not in the expected
+     *     format.
+     * @throws IOException if there was any problem reading from {@code storage} or the json file, or saving to
+     *     {@code storage}.
+     */
+    public static Optional<ReadOnlyInventory> readInventory(InventoryStorage storage, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        requireAllNonNull(storage, jsonFilePath);
+        Optional<ReadOnlyInventory> inventory = storage.readInventory();
+        if (inventory.isPresent() || !Files.exists(jsonFilePath)) {
+            return inventory;
+        }
+
+        Optional<ReadOnlyInventory> jsonInventory = new JsonInventoryStorage(jsonFilePath).readInventory();
+        if (jsonInventory.isPresent()) {
+            logger.info("Moving the inventory in " + jsonFilePath + " to " + storage.getInventoryFilePath());
+            storage.saveInventory(jsonInventory.get());
+        }
+        return jsonInventory;
+    }
+}
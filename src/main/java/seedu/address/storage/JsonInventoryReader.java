@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Inventory;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.exceptions.DuplicateMedicineException;
+
+/**
+ * Reads an inventory json file in the format of {@link JsonSerializableInventory} a batch of medicines at a time.
+ * Each batch of medicines is converted into the model's {@code Medicine} objects in parallel as soon as it is
+ * parsed, so neither the text of the file nor the adapted form of every medicine is held in memory at once.
+ */
+class JsonInventoryReader {
+
+    public static final String MESSAGE_NOT_INVENTORY = "Inventory file is not a json object.";
+
+    /** The number of medicines parsed before they are converted together. */
+    private static final int CONVERSION_BATCH_SIZE = 4096;
+
+    private final List<Medicine> medicines = new ArrayList<>();
+    private long journalSequence;
+
+    private JsonInventoryReader() {}
+
+    /**
+     * Reads the inventory json file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated in a medicine.
+     */
+    public static JsonInventoryReader read(Path filePath) throws IOException, IllegalValueException {
+        JsonInventoryReader reader = new JsonInventoryReader();
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_INVENTORY);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals("medicines") && valueToken == JsonToken.START_ARRAY) {
+                    reader.readMedicines(parser);
+                } else if (fieldName.equals("journalSequence") && valueToken.isNumeric()) {
+                    reader.journalSequence = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Returns the medicines read, in the order they appear in the file.
+     */
+    public List<Medicine> getMedicines() {
+        return medicines;
+    }
+
+    /**
+     * Returns the journal sequence number of the file if it is an inventory journal snapshot, or 0 otherwise.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns an {@code Inventory} containing the medicines read.
+     *
+     * @throws IllegalValueException if the medicines read contain duplicates.
+     */
+    public Inventory toInventory() throws IllegalValueException {
+        Inventory inventory = new Inventory();
+        try {
+            inventory.setMedicines(medicines);
+        } catch (DuplicateMedicineException dme) {
+            throw new IllegalValueException(JsonSerializableInventory.MESSAGE_DUPLICATE_MEDICINE + "\n"
+                    + dme.getMessage());
+        }
+        return inventory;
+    }
+
+    /**
+     * Reads the elements of the medicines array, which {@code parser} is at the start of.
+     */
+    private void readMedicines(JsonParser parser) throws IOException, IllegalValueException {
+        List<JsonAdaptedMedicine> adaptedMedicines = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            adaptedMedicines.add(parser.readValueAs(JsonAdaptedMedicine.class));
+            if (adaptedMedicines.size() == CONVERSION_BATCH_SIZE) {
+                medicines.addAll(JsonAdaptedMedicine.toModelTypes(adaptedMedicines));
+                adaptedMedicines.clear();
+            }
+        }
+        medicines.addAll(JsonAdaptedMedicine.toModelTypes(adaptedMedicines));
+    }
+}
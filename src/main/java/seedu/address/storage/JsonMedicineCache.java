@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * Caches the compact json of the medicines written to an inventory journal, so that a medicine that a later record
+ * covers unchanged is not converted again. Medicines are immutable, so a medicine is keyed by the object itself: a
+ * changed medicine is a different object and misses the cache.
+ *
+ * Medicines no longer in the inventory are dropped once the cache holds twice as many medicines as the inventory,
+ * so the cache holds about as much as a json snapshot, and the cost of dropping them is spread over the medicines
+ * converted since the last drop.
+ */
+class JsonMedicineCache {
+
+    private final Map<Medicine, String> cachedJson = new IdentityHashMap<>();
+
+    /**
+     * Returns the compact json of {@code medicine}, converting it only if it is not cached.
+     */
+    String toJson(Medicine medicine) throws JsonProcessingException {
+        String json = cachedJson.get(medicine);
+        if (json == null) {
+            json = JsonUtil.toCompactJsonString(new JsonAdaptedMedicine(medicine));
+            cachedJson.put(medicine, json);
+        }
+        return json;
+    }
+
+    /**
+     * Records that the inventory now holds {@code medicines}, dropping the medicines not among them if the cache
+     * has grown to twice their number.
+     */
+    void retainIfGrown(List<Medicine> medicines) {
+        if (cachedJson.size() <= 2 * medicines.size()) {
+            return;
+        }
+        Set<Medicine> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+        retained.addAll(medicines);
+        cachedJson.keySet().retainAll(retained);
+    }
+
+    int size() {
+        return cachedJson.size();
+    }
+}
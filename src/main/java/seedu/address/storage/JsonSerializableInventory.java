@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Inventory;
 import seedu.address.model.ReadOnlyInventory;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.exceptions.DuplicateMedicineException;
 
 /**
  * An Immutable Inventory that is serializable to JSON format.
@@ -42,17 +43,18 @@ class JsonSerializableInventory {
 
     /**
      * Converts this inventory into the model's {@code Inventory} object.
+     * The medicines are converted in parallel, then checked for duplicates at once.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Inventory toModelType() throws IllegalValueException {
+        List<Medicine> modelMedicines = JsonAdaptedMedicine.toModelTypes(medicines);
+
         Inventory inventory = new Inventory();
-        for (JsonAdaptedMedicine jsonAdaptedMedicine : medicines) {
-            Medicine medicine = jsonAdaptedMedicine.toModelType();
-            if (inventory.hasMedicine(medicine)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MEDICINE);
-            }
-            inventory.addMedicine(medicine);
+        try {
+            inventory.setMedicines(modelMedicines);
+        } catch (DuplicateMedicineException dme) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MEDICINE + "\n" + dme.getMessage());
         }
         return inventory;
     }
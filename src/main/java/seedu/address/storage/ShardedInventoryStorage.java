@@ -0,0 +1,365 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Inventory;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineIdentity;
+import seedu.address.model.medicine.exceptions.DuplicateMedicineException;
+
+/**
+ * A class to access Inventory data stored on the hard disk as a number of shard files, each holding the medicines
+ * whose identity hashes to that shard, together with an index file listing the current file of each shard.
+ *
+ * Each save only rewrites the shards whose medicines changed since the last save, so a change to one medicine in a
+ * large inventory writes one shard and the index. Changed shards are written to new files before the index is
+ * replaced in a single step, so the files listed in the index always hold a complete inventory. Shards are written
+ * in the format of {@link BinaryInventoryFile}.
+ *
+ * The order of the medicines in the inventory is not kept: medicines are read back sorted by name and company.
+ */
+public class ShardedInventoryStorage implements InventoryStorage {
+
+    public static final int DEFAULT_SHARD_COUNT = 64;
+    public static final int INDEX_MAGIC = 0x4D544249; // "MTBI"
+    public static final int INDEX_VERSION = 1;
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "Shard count must be positive.";
+    public static final String MESSAGE_CORRUPTED_INDEX = "Inventory shard index is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedInventoryStorage.class);
+
+    private static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    private static final String SHARD_FILE_FORMAT = "shard-%d-%d.bin";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final int shardCount;
+
+    // The fields below describe the files at filePath and are guarded by this storage.
+
+    /** The medicines saved in each shard at {@code filePath}, or null if they are not known. */
+    private List<List<Medicine>> savedShards;
+    /** The generation of the current file of each shard at {@code filePath}. */
+    private long[] shardGenerations;
+
+    public ShardedInventoryStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Creates a storage that splits the inventory into {@code shardCount} shards.
+     * An inventory saved with a different number of shards is still read, and is split again on the next save.
+     */
+    public ShardedInventoryStorage(Path filePath, int shardCount) {
+        requireNonNull(filePath);
+        checkArgument(shardCount > 0, MESSAGE_INVALID_SHARD_COUNT);
+        this.filePath = filePath;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Returns the directory holding the shards listed in the index file at {@code indexFilePath}.
+     */
+    public static Path getShardDirectory(Path indexFilePath) {
+        return indexFilePath.resolveSibling(indexFilePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getInventoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInventory> readInventory() throws DataConversionException, IOException {
+        return readInventory(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInventory()}.
+     * Reads the index file at {@code filePath} and every shard listed in it.
+     *
+     * @param filePath location of the index file. Cannot be null.
+     * @throws DataConversionException if the index or a shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyInventory> readInventory(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Inventory inventory = new Inventory();
+        long[] generations;
+        List<List<Medicine>> shards = new ArrayList<>();
+        try {
+            generations = readIndex(filePath);
+            Path shardDirectory = getShardDirectory(filePath);
+            for (int shard = 0; shard < generations.length; shard++) {
+                List<Medicine> shardMedicines = new ArrayList<>();
+                BinaryInventoryFile.read(shardDirectory.resolve(getShardFileName(shard, generations[shard])),
+                        shardMedicines);
+                shards.add(shardMedicines);
+            }
+
+            List<Medicine> medicines = new ArrayList<>();
+            shards.forEach(medicines::addAll);
+            medicines.sort(null);
+            inventory.setMedicines(medicines);
+        } catch (IllegalValueException | DuplicateMedicineException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            synchronized (this) {
+                boolean isSameSharding = generations.length == shardCount && isPartitioned(shards);
+                savedShards = isSameSharding ? partition(inventory.getMedicineList()) : null;
+                shardGenerations = isSameSharding ? generations : null;
+            }
+        }
+        return Optional.of(inventory);
+    }
+
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+        saveInventory(inventory, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInventory(ReadOnlyInventory)}.
+     * Only the shards that changed since the last save are written if {@code filePath} is the file path of this
+     * storage and its contents are known. Otherwise, every shard is written.
+     *
+     * @param filePath location of the index file. Cannot be null.
+     */
+    @Override
+    public void saveInventory(ReadOnlyInventory inventory, Path filePath) throws IOException {
+        requireNonNull(inventory);
+        requireNonNull(filePath);
+        List<List<Medicine>> shards = partition(inventory.getMedicineList());
+
+        if (!filePath.equals(this.filePath)) {
+            writeAllShards(filePath, shards);
+            return;
+        }
+
+        synchronized (this) {
+            if (savedShards == null) {
+                shardGenerations = writeAllShards(filePath, shards);
+                savedShards = shards;
+                return;
+            }
+
+            writeChangedShards(shards);
+        }
+    }
+
+    /**
+     * Writes the shards that differ from the saved shards to new files, then replaces the index to list them and
+     * deletes the files they replace.
+     */
+    private void writeChangedShards(List<List<Medicine>> shards) throws IOException {
+        Path shardDirectory = getShardDirectory(filePath);
+        long[] generations = Arrays.copyOf(shardGenerations, shardCount);
+        List<Path> replacedFiles = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (isSameMedicines(savedShards.get(shard), shards.get(shard))) {
+                continue;
+            }
+
+            generations[shard]++;
+            BinaryInventoryFile.write(shardDirectory.resolve(getShardFileName(shard, generations[shard])),
+                    shards.get(shard), generations[shard]);
+            replacedFiles.add(shardDirectory.resolve(getShardFileName(shard, shardGenerations[shard])));
+        }
+        if (replacedFiles.isEmpty()) {
+            return;
+        }
+
+        logger.fine("Writing " + replacedFiles.size() + " of " + shardCount + " inventory shards.");
+        writeIndex(filePath, generations);
+        savedShards = shards;
+        shardGenerations = generations;
+        for (Path replacedFile : replacedFiles) {
+            deleteQuietly(replacedFile);
+        }
+    }
+
+    /**
+     * Writes every shard and the index at {@code filePath}, then deletes any other files in the shard directory.
+     * The shards are written to files that are not listed in any readable index already at {@code filePath}, so
+     * that the inventory there stays readable until the new index replaces it.
+     *
+     * @return the generation of the file written for each shard.
+     */
+    private long[] writeAllShards(Path filePath, List<List<Medicine>> shards) throws IOException {
+        long generation = getNextGeneration(filePath);
+        long[] generations = new long[shardCount];
+        Arrays.fill(generations, generation);
+
+        Path shardDirectory = getShardDirectory(filePath);
+        Set<Path> shardFiles = new HashSet<>();
+        Files.createDirectories(shardDirectory);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Path shardFile = shardDirectory.resolve(getShardFileName(shard, generation));
+            BinaryInventoryFile.write(shardFile, shards.get(shard), generation);
+            shardFiles.add(shardFile);
+        }
+        writeIndex(filePath, generations);
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                if (!shardFiles.contains(file)) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+        return generations;
+    }
+
+    /**
+     * Returns a generation newer than that of every shard listed in the index at {@code filePath}, or 0 if there is
+     * no readable index there.
+     */
+    private static long getNextGeneration(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        try {
+            return Arrays.stream(readIndex(filePath)).max().getAsLong() + 1;
+        } catch (IllegalValueException ive) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns true if every medicine in {@code shards} is in the shard it would be put in by this storage.
+     */
+    private boolean isPartitioned(List<List<Medicine>> shards) {
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (Medicine medicine : shards.get(shard)) {
+                if (getShard(medicine) != shard) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int getShard(Medicine medicine) {
+        return Math.floorMod(new MedicineIdentity(medicine).hashCode(), shardCount);
+    }
+
+    /**
+     * Splits {@code medicines} into shards by the hash of their identity, keeping their order within each shard.
+     */
+    private List<List<Medicine>> partition(List<Medicine> medicines) {
+        List<List<Medicine>> shards = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Medicine medicine : medicines) {
+            shards.get(getShard(medicine)).add(medicine);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns true if both lists hold the same medicine objects in the same order.
+     * Medicines are immutable, so a medicine that was changed is always a different object.
+     */
+    private static boolean isSameMedicines(List<Medicine> saved, List<Medicine> medicines) {
+        if (saved.size() != medicines.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != medicines.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the generation of the current file of each shard listed in the index file at {@code filePath}.
+     *
+     * @throws IllegalValueException if the index is not in the correct format.
+     */
+    private static long[] readIndex(Path filePath) throws IllegalValueException, IOException {
+        ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        try {
+            if (index.getInt() != INDEX_MAGIC || index.getInt() != INDEX_VERSION) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_INDEX);
+            }
+            long[] generations = new long[index.getInt()];
+            if (generations.length == 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_INDEX);
+            }
+            for (int shard = 0; shard < generations.length; shard++) {
+                generations[shard] = index.getLong();
+            }
+            return generations;
+        } catch (RuntimeException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_INDEX, e);
+        }
+    }
+
+    /**
+     * Writes an index listing the shards as {@code generations} to {@code filePath}, replacing the index there in a
+     * single step so that it never lists a mix of old and new shards.
+     */
+    private static void writeIndex(Path filePath, long[] generations) throws IOException {
+        ByteBuffer index = ByteBuffer.allocate(3 * Integer.BYTES + generations.length * Long.BYTES);
+        index.putInt(INDEX_MAGIC).putInt(INDEX_VERSION).putInt(generations.length);
+        for (long generation : generations) {
+            index.putLong(generation);
+        }
+
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_SUFFIX);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(temporaryPath, index.array());
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String getShardFileName(int shard, long generation) {
+        return String.format(SHARD_FILE_FORMAT, shard, generation);
+    }
+
+    /**
+     * Deletes {@code file}, which is no longer listed in the index, logging instead of failing if it cannot be
+     * deleted.
+     */
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete unused inventory shard " + file + StringUtil.getDetails(ioe));
+        }
+    }
+}
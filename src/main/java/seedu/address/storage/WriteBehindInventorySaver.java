@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.medicine.Medicine;
+
+/**
+ * Saves the inventory to an {@code InventoryStorage} on a single background thread, so that commands do not wait
+ * for the inventory to be written.
+ *
+ * Each save request takes a snapshot of the medicines, which are immutable, so the snapshot is unaffected by later
+ * changes to the inventory. A request made while an earlier snapshot is still waiting to be written replaces that
+ * snapshot, so a burst of changes is written once.
+ */
+public class WriteBehindInventorySaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindInventorySaver.class);
+
+    private final InventoryStorage storage;
+    private final Consumer<InventorySaveStatus> statusListener;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Inventory writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The snapshot waiting to be written, or null if every snapshot requested has been taken by the writer. */
+    private final AtomicReference<ReadOnlyInventory> pendingSnapshot = new AtomicReference<>();
+
+    /** The snapshot whose save failed most recently, or null if the most recent save succeeded. */
+    private volatile ReadOnlyInventory failedSnapshot;
+    private volatile IOException lastFailure;
+
+    /** The most recently queued save. */
+    private volatile Future<?> lastSave = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a saver that writes to {@code storage} and reports the status of each save to {@code statusListener}.
+     * {@code statusListener} is called on the thread requesting a save when a save is queued, and on the writer
+     * thread when a save completes.
+     */
+    public WriteBehindInventorySaver(InventoryStorage storage, Consumer<InventorySaveStatus> statusListener) {
+        requireAllNonNull(storage, statusListener);
+        this.storage = storage;
+        this.statusListener = statusListener;
+    }
+
+    /**
+     * Queues a save of the current contents of {@code inventory}.
+     * Must be called from the thread that modifies {@code inventory}.
+     */
+    public void requestSave(ReadOnlyInventory inventory) {
+        requireNonNull(inventory);
+        queue(new InventorySnapshot(inventory.getMedicineList()));
+    }
+
+    /**
+     * Blocks until every queued save has been written. If the most recent save failed, it is retried once.
+     *
+     * @throws IOException if the most recent save could not be written.
+     */
+    public void flush() throws IOException {
+        awaitLastSave();
+        ReadOnlyInventory snapshotToRetry = failedSnapshot;
+        if (snapshotToRetry == null) {
+            return;
+        }
+
+        logger.info("Retrying the last failed save of the inventory.");
+        if (pendingSnapshot.compareAndSet(null, snapshotToRetry)) {
+            statusListener.accept(InventorySaveStatus.SAVING);
+            lastSave = writer.submit(this::writePendingSnapshot);
+        }
+        awaitLastSave();
+        if (failedSnapshot != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Blocks until the most recently queued save has completed.
+     */
+    private void awaitLastSave() throws IOException {
+        try {
+            lastSave.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the inventory to be saved.", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Queues {@code snapshot} to be written, replacing any snapshot that is still waiting to be written.
+     */
+    private void queue(ReadOnlyInventory snapshot) {
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            statusListener.accept(InventorySaveStatus.SAVING);
+            lastSave = writer.submit(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Writes the snapshot waiting to be written, if any. Runs on the writer thread.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyInventory snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            logger.fine("Writing inventory snapshot of " + snapshot.getMedicineList().size() + " medicines.");
+            storage.saveInventory(snapshot);
+            failedSnapshot = null;
+            lastFailure = null;
+            if (pendingSnapshot.get() == null) {
+                statusListener.accept(InventorySaveStatus.SAVED);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save inventory " + StringUtil.getDetails(ioe));
+            failedSnapshot = snapshot;
+            lastFailure = ioe;
+            statusListener.accept(InventorySaveStatus.failed(ioe));
+        }
+    }
+
+    /**
+     * An immutable copy of the medicines in an inventory, for storage to read on the writer thread.
+     */
+    private static class InventorySnapshot implements ReadOnlyInventory {
+
+        private final ObservableList<Medicine> medicines;
+
+        InventorySnapshot(ObservableList<Medicine> medicines) {
+            this.medicines = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(new ArrayList<>(medicines)));
+        }
+
+        @Override
+        public ObservableList<Medicine> getMedicineList() {
+            return medicines;
+        }
+
+        @Override
+        public ObservableList<Medicine> getSortedMedicineList(Comparator<Medicine> comparator) {
+            return new SortedList<>(medicines, comparator);
+        }
+
+        @Override
+        public void addListener(InvalidationListener listener) {
+            // a snapshot never changes, so there is nothing to listen to
+        }
+
+        @Override
+        public void removeListener(InvalidationListener listener) {
+            // a snapshot never changes, so there is nothing to listen to
+        }
+    }
+}
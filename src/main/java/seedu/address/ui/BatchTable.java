@@ -95,7 +95,8 @@ public class BatchTable extends UiPart<Region> {
      * Gets batch details from {@code selectedMedicine} and add them to the table.
      */
     private void populateTable(Medicine selectedMedicine) {
-        ObservableList<Batch> batches = FXCollections.observableArrayList(selectedMedicine.getBatches().values());
+        ObservableList<Batch> batches = FXCollections.observableArrayList();
+        selectedMedicine.getBatchesByExpiry().forEach(batches::add);
         table.setItems(batches);
     }
 
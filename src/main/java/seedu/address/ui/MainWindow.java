@@ -2,6 +2,9 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -11,6 +14,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -26,6 +30,9 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    /** How often the expiring medicines are checked against the date, so that they move on past midnight. */
+    private static final Duration EXPIRY_REFRESH_INTERVAL = Duration.minutes(1);
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -124,13 +131,18 @@ public class MainWindow extends UiPart<Stage> {
         medicineListPanelPlaceholder.getChildren().add(medicineListPanel.getRoot());
 
         warningPanel = new WarningPanel(logic.getExpiringMedicinesList(), logic.getLowStockMedicinesList(),
-                logic.getWarningPanelPredicateAccessor());
+                logic.expiringMedicinesLimitProperty(), logic.getWarningPanelPredicateAccessor());
         warningPanelPlaceholder.getChildren().add(warningPanel.getRoot());
+        Timeline expiryRefresh = new Timeline(new KeyFrame(EXPIRY_REFRESH_INTERVAL, unused ->
+                logic.refreshExpiringMedicinesList()));
+        expiryRefresh.setCycleCount(Animation.INDEFINITE);
+        expiryRefresh.play();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getInventoryFilePath(), logic.getInventory());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getInventoryFilePath(),
+                logic.inventorySaveStatusProperty(), logic.exportStatusProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
@@ -5,10 +5,12 @@ import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
-import seedu.address.model.ReadOnlyInventory;
+import seedu.address.commons.util.csv.ExportStatus;
+import seedu.address.storage.InventorySaveStatus;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,6 +19,12 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVING = "Saving...";
+    public static final String SYNC_STATUS_FAILED = "Could not save data to file: %s";
+    public static final String EXPORT_STATUS_RUNNING = "Exporting to %1$s: %2$d %4$s written (%3$d %4$s/s)";
+    public static final String EXPORT_STATUS_COMPLETED = "Exported %2$d %4$s to %1$s (%3$d %4$s/s)";
+    public static final String EXPORT_STATUS_CANCELLED = "Export to %1$s cancelled";
+    public static final String EXPORT_STATUS_FAILED = "Could not export to %1$s: %2$s";
 
     /**
      * Used to generate time stamps.
@@ -33,12 +41,16 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label syncStatus;
     @FXML
+    private Label exportStatus;
+    @FXML
     private Label saveLocationStatus;
 
 
-    public StatusBarFooter(Path saveLocation, ReadOnlyInventory inventory) {
+    public StatusBarFooter(Path saveLocation, ObservableValue<InventorySaveStatus> inventorySaveStatus,
+            ObservableValue<ExportStatus> exportStatus) {
         super(FXML);
-        inventory.addListener(observable -> updateSyncStatus());
+        inventorySaveStatus.addListener((observable, oldStatus, newStatus) -> updateSyncStatus(newStatus));
+        exportStatus.addListener((observable, oldStatus, newStatus) -> updateExportStatus(newStatus));
         syncStatus.setText(SYNC_STATUS_INITIAL);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
@@ -58,12 +70,56 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     /**
-     * Updates "last updated" status to the current time.
+     * Updates the sync status to show {@code saveStatus}, using the current time as the "last updated" time
+     * if the inventory was saved.
+     */
+    private void updateSyncStatus(InventorySaveStatus saveStatus) {
+        switch (saveStatus.getState()) {
+        case SAVING:
+            syncStatus.setText(SYNC_STATUS_SAVING);
+            break;
+
+        case SAVED:
+            long now = clock.millis();
+            String lastUpdated = new Date(now).toString();
+            syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+            break;
+
+        case FAILED:
+            syncStatus.setText(String.format(SYNC_STATUS_FAILED, saveStatus.getFailure().get()));
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Updates the export status to show the progress of the export in {@code status}.
      */
-    private void updateSyncStatus() {
-        long now = clock.millis();
-        String lastUpdated = new Date(now).toString();
-        syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
+    private void updateExportStatus(ExportStatus status) {
+        switch (status.getState()) {
+        case RUNNING:
+            exportStatus.setText(String.format(EXPORT_STATUS_RUNNING, status.getFileName(), status.getRowsWritten(),
+                    status.getRowsPerSecond(), status.getRowUnit()));
+            break;
+
+        case COMPLETED:
+            exportStatus.setText(String.format(EXPORT_STATUS_COMPLETED, status.getFileName(),
+                    status.getRowsWritten(), status.getRowsPerSecond(), status.getRowUnit()));
+            break;
+
+        case CANCELLED:
+            exportStatus.setText(String.format(EXPORT_STATUS_CANCELLED, status.getFileName()));
+            break;
+
+        case FAILED:
+            exportStatus.setText(String.format(EXPORT_STATUS_FAILED, status.getFileName(), status.getFailure().get()));
+            break;
+
+        default:
+            break;
+        }
     }
 
 }
@@ -1,8 +1,8 @@
 package seedu.address.ui;
 
 import java.util.ArrayList;
+import java.util.List;
 
-import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -47,9 +47,9 @@ public class WarningCard extends UiPart<Region> {
 
         switch (listType) {
         case EXPIRY:
-            FilteredList<Batch> filteredBatch = medicine
-                    .getFilteredBatch(warningPanelPredicateAccessor.getBatchExpiryPredicate());
-            field.setText(getFormattedBatch(filteredBatch));
+            List<Batch> expiringBatches = medicine.getBatchesExpiringBy(
+                    warningPanelPredicateAccessor.getBatchExpiryPredicate().getLatestExpiryDate());
+            field.setText(getFormattedBatch(expiringBatches));
             break;
 
         case LOW_STOCK:
@@ -65,9 +65,9 @@ public class WarningCard extends UiPart<Region> {
         return type;
     }
 
-    private String getFormattedBatch(FilteredList<Batch> filteredBatch) {
+    private String getFormattedBatch(List<Batch> expiringBatches) {
         String formatted = "";
-        for (Batch batch: filteredBatch) {
+        for (Batch batch: expiringBatches) {
             formatted += String.format("%s [Exp: %s]\n",
                     batch.getBatchNumber().toString(),
                     batch.getExpiry().toString());
@@ -41,6 +41,14 @@ public class WarningListView extends UiPart<Region> {
         warningListView.setCellFactory(listView -> new WarningListViewCell());
     }
 
+    /**
+     * Rebuilds the cards shown, for when the details they show have changed without the medicines in the list
+     * changing.
+     */
+    public void refreshCards() {
+        warningListView.refresh();
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Medicine} using a {@code WarningCard}.
      */
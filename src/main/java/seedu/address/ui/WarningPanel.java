@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -25,11 +27,12 @@ public class WarningPanel extends UiPart<Region> {
 
     public WarningPanel(ObservableList<Medicine> expiringMedicineList,
                         ObservableList<Medicine> lowQuantityMedicineList,
+                        ObservableValue<LocalDate> expiringMedicinesLimit,
                         WarningPanelPredicateAccessor warningPanelPredicateAccessor) {
         super(FXML);
 
         this.warningPanelPredicateAccessor = warningPanelPredicateAccessor;
-        setUpVBox(expiringMedicineList, lowQuantityMedicineList);
+        setUpVBox(expiringMedicineList, lowQuantityMedicineList, expiringMedicinesLimit);
 
     }
 
@@ -37,12 +40,15 @@ public class WarningPanel extends UiPart<Region> {
      * Sets up the VBox which holds the lists.
      */
     private void setUpVBox(ObservableList<Medicine> expiringMedicineList,
-                            ObservableList<Medicine> lowStockMedicineList) {
+                            ObservableList<Medicine> lowStockMedicineList,
+                            ObservableValue<LocalDate> expiringMedicinesLimit) {
         Label expiringListTitle = new Label(String.format("%-34s", "Expiring Soon / Expired")); //right-pad title
         expiringListTitle.getStyleClass().add("label-warning-panel");
-        warningVBox.getChildren().addAll(expiringListTitle,
-                new WarningListView(expiringMedicineList,
-                WarningPanelPredicateType.EXPIRY, warningPanelPredicateAccessor).getRoot());
+        WarningListView expiringListView = new WarningListView(expiringMedicineList,
+                WarningPanelPredicateType.EXPIRY, warningPanelPredicateAccessor);
+        // the expiring batches shown on each card depend on the limit, even for medicines that stay within it
+        expiringMedicinesLimit.addListener((unused1, unused2, unused3) -> expiringListView.refreshCards());
+        warningVBox.getChildren().addAll(expiringListTitle, expiringListView.getRoot());
 
         Label lowQuantityListTitle = new Label(String.format("%-40s", "Low in Stock")); //right-pad title
         lowQuantityListTitle.getStyleClass().add("label-warning-panel");
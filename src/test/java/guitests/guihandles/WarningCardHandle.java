@@ -51,7 +51,7 @@ public class WarningCardHandle extends NodeHandle<Node> {
 
         if (type.equals(WarningPanelPredicateType.EXPIRY)) {
             String expectedDetail = "";
-            for (Batch batch: medicine.getBatches().values()) {
+            for (Batch batch: medicine.getBatchesByExpiry()) {
                 expectedDetail += String.format("%s [Exp: %s]\n",
                         batch.getBatchNumber().toString(),
                         batch.getExpiry().toString());
@@ -15,7 +15,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyInventory;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.medicine.Medicine;
-import seedu.address.storage.JsonInventoryStorage;
+import seedu.address.storage.JournalInventoryStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.testutil.TestUtil;
 import systemtests.ModelHelper;
@@ -43,9 +43,9 @@ public class TestApp extends MainApp {
 
         // If some initial local data has been provided, write those to the file
         if (initialDataSupplier.get() != null) {
-            JsonInventoryStorage jsonInventoryStorage = new JsonInventoryStorage(saveFileLocation);
+            JournalInventoryStorage inventoryStorage = new JournalInventoryStorage(saveFileLocation);
             try {
-                jsonInventoryStorage.saveInventory(initialDataSupplier.get());
+                inventoryStorage.saveInventory(initialDataSupplier.get());
             } catch (IOException ioe) {
                 throw new AssertionError(ioe);
             }
@@ -69,10 +69,22 @@ public class TestApp extends MainApp {
         return userPrefs;
     }
 
+    /**
+     * Blocks until every change to the inventory has been saved to the storage file.
+     */
+    public void flushInventory() {
+        try {
+            logic.flushInventory();
+        } catch (IOException ioe) {
+            throw new AssertionError("Inventory could not be saved.", ioe);
+        }
+    }
+
     /**
      * Returns a defensive copy of the inventory data stored inside the storage file.
      */
     public Inventory readStorageInventory() {
+        flushInventory();
         try {
             return new Inventory(storage.readInventory().get());
         } catch (DataConversionException dce) {
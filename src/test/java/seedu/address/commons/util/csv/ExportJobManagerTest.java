@@ -0,0 +1,176 @@
+package seedu.address.commons.util.csv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.commons.io.FilenameUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.medicine.Medicine;
+
+public class ExportJobManagerTest {
+
+    private final Model model = new ModelManager(getTypicalInventory(), new UserPrefs());
+    private final ExportJobManager exportJobManager = new ExportJobManager();
+    private final List<ExportStatus> statuses = Collections.synchronizedList(new ArrayList<>());
+    private File csvFile;
+    private String fileName;
+
+    @Before
+    public void setUp() throws Exception {
+        Path exportDirectoryPath = Paths.get("exported");
+        if (Files.isDirectory(exportDirectoryPath) == false) {
+            Files.createDirectory(exportDirectoryPath);
+        }
+        csvFile = File.createTempFile("tmp", ".csv", exportDirectoryPath.toFile());
+        fileName = FilenameUtils.removeExtension(csvFile.getName());
+        // Delete the temporary csv file so as to simulate csv file does not exist.
+        csvFile.delete();
+        exportJobManager.addStatusListener(statuses::add);
+    }
+
+    @After
+    public void tearDown() {
+        csvFile.delete();
+    }
+
+    @Test
+    public void submit_exportCompletes_fileWritten() throws Exception {
+        ExportJob job = exportJobManager.submit(createCsvWrapper());
+        exportJobManager.awaitCompletion();
+
+        assertTrue(csvFile.exists());
+        assertEquals(getExpectedRows() + 1, Files.readAllLines(csvFile.toPath()).size());
+        ExportStatus lastStatus = statuses.get(statuses.size() - 1);
+        assertEquals(ExportStatus.State.COMPLETED, lastStatus.getState());
+        assertEquals(fileName + ".csv", lastStatus.getFileName());
+        assertEquals(getExpectedRows(), lastStatus.getRowsWritten());
+
+        // finished exports cannot be cancelled
+        assertFalse(job.cancel());
+        assertTrue(exportJobManager.cancelAll().isEmpty());
+    }
+
+    @Test
+    public void cancelAll_exportRunning_fileRemoved() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        exportJobManager.addStatusListener(status -> {
+            if (status.getState() == ExportStatus.State.RUNNING) {
+                started.countDown();
+                awaitUninterruptibly(cancelled);
+            }
+        });
+        ExportJob job = exportJobManager.submit(createCsvWrapper());
+        started.await();
+
+        assertEquals(Collections.singletonList(job), exportJobManager.cancelAll());
+        cancelled.countDown();
+        exportJobManager.awaitCompletion();
+
+        assertFalse(csvFile.exists());
+        assertEquals(ExportStatus.State.CANCELLED, statuses.get(statuses.size() - 1).getState());
+        assertTrue(exportJobManager.cancelAll().isEmpty());
+    }
+
+    @Test
+    public void submit_exportThrowsRuntimeException_failedAndFileRemoved() throws Exception {
+        CsvWrapper csvWrapper = new CsvWrapper(fileName, model) {
+            @Override
+            public boolean writeData(RowListener rowListener) {
+                throw new IllegalStateException("unexpected");
+            }
+        };
+        csvWrapper.createFile();
+        ExportJob job = exportJobManager.submit(csvWrapper);
+        exportJobManager.awaitCompletion();
+
+        assertFalse(csvFile.exists());
+        ExportStatus lastStatus = statuses.get(statuses.size() - 1);
+        assertEquals(ExportStatus.State.FAILED, lastStatus.getState());
+        assertEquals(Optional.of(new IllegalStateException("unexpected").toString()), lastStatus.getFailure());
+        assertFalse(job.cancel());
+    }
+
+    @Test
+    public void submit_rowsReportedInSteps_progressReportedOnPassingEachInterval() throws Exception {
+        CsvWrapper csvWrapper = new CsvWrapper(fileName, model) {
+            @Override
+            public String getRowUnit() {
+                return "labels";
+            }
+
+            @Override
+            public boolean writeData(RowListener rowListener) {
+                for (long rows = 300; rows <= 2400; rows += 300) {
+                    rowListener.onRowWritten(rows);
+                }
+                return true;
+            }
+        };
+        csvWrapper.createFile();
+        exportJobManager.submit(csvWrapper);
+        exportJobManager.awaitCompletion();
+
+        List<Long> runningRows = new ArrayList<>();
+        for (ExportStatus status : statuses) {
+            assertEquals("labels", status.getRowUnit());
+            if (status.getState() == ExportStatus.State.RUNNING) {
+                runningRows.add(status.getRowsWritten());
+            }
+        }
+        assertTrue(runningRows.containsAll(Arrays.asList(0L, 1200L, 2100L)));
+        ExportStatus lastStatus = statuses.get(statuses.size() - 1);
+        assertEquals(ExportStatus.State.COMPLETED, lastStatus.getState());
+        assertEquals(2400, lastStatus.getRowsWritten());
+    }
+
+    /**
+     * Returns a {@code CsvWrapper} that has created the csv file of this test.
+     */
+    private CsvWrapper createCsvWrapper() throws Exception {
+        CsvWrapper csvWrapper = new CsvWrapper(fileName, model);
+        csvWrapper.createFile();
+        return csvWrapper;
+    }
+
+    /**
+     * Returns the number of rows of data expected in an export of the medicines of the model.
+     */
+    private long getExpectedRows() {
+        long rows = 0;
+        for (Medicine medicine : model.getFilteredMedicineList()) {
+            rows += medicine.getBatches().size();
+        }
+        return rows;
+    }
+
+    /**
+     * Waits for {@code latch} to count down, ignoring interrupts.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.commons.util.pdf;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Test;
+
+public class LabelFontMetricsTest {
+
+    // In Helvetica at size 10, 'W' is 9.44 wide, 'i' is 2.22 wide and a space is 2.78 wide.
+    private final LabelFontMetrics metrics = new LabelFontMetrics(PDType1Font.HELVETICA, 10);
+
+    @Test
+    public void wrap_wordsFitting_brokenAtSpaces() throws Exception {
+        assertEquals(Arrays.asList("W i", "W"), metrics.wrap("W i W", 15));
+        assertEquals(Arrays.asList("W", "i"), metrics.wrap("W\ni", 100));
+    }
+
+    @Test
+    public void wrap_wordWiderThanMaxWidth_brokenBetweenCharacters() throws Exception {
+        assertEquals(Arrays.asList("WW", "WW", "W"), metrics.wrap("WWWWW", 20));
+        assertEquals(Arrays.asList("i", "WW", "W i"), metrics.wrap("i WWW i", 20));
+    }
+
+    @Test
+    public void wrap_characterWiderThanMaxWidth_ownLine() throws Exception {
+        assertEquals(Arrays.asList("W", "W"), metrics.wrap("WW", 5));
+    }
+
+    @Test
+    public void wrap_runOfSpaces_measuredAsWritten() throws Exception {
+        // the line "i    i" is 15.56 wide, while "i i" is only 7.22 wide
+        assertEquals(Arrays.asList("i", "i"), metrics.wrap("i    i", 10));
+        assertEquals(Arrays.asList("i    i"), metrics.wrap("i    i", 16));
+    }
+}
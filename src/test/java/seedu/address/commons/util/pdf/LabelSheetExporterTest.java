@@ -0,0 +1,95 @@
+package seedu.address.commons.util.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.util.FileName;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.MedicineBuilder;
+
+public class LabelSheetExporterTest {
+
+    private static final String LABEL_FILE_NAME = "labelSheetExporterTest";
+    private static final Path LABEL_FILE_PATH = Paths.get("PDF", LABEL_FILE_NAME + ".pdf");
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(LABEL_FILE_PATH);
+    }
+
+    @Test
+    public void constructor_noWorkers_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new LabelSheetExporter(Collections.emptyList(), new FileName(LABEL_FILE_NAME), 0));
+    }
+
+    @Test
+    public void createFile_createsEmptyFile() throws Exception {
+        LabelSheetExporter exporter = new LabelSheetExporter(createMedicines(1), new FileName(LABEL_FILE_NAME));
+        assertEquals(LABEL_FILE_NAME + ".pdf", exporter.getExportedFileName());
+
+        exporter.createFile();
+        assertEquals(0, Files.size(LABEL_FILE_PATH));
+    }
+
+    @Test
+    public void writeData_segmentsOnSeveralWorkers_labelsMergedInOrder() throws Exception {
+        // two full segments and a short one, which is likely to finish rendering before the others
+        List<Medicine> medicinesToLabel = createMedicines(LabelSheetExporter.LABELS_PER_SEGMENT * 2 + 3);
+        LabelSheetExporter exporter = new LabelSheetExporter(medicinesToLabel, new FileName(LABEL_FILE_NAME), 3);
+        List<Long> labelsReported = new ArrayList<>();
+        exporter.createFile();
+
+        assertTrue(exporter.writeData(labelsWritten -> labelsReported.add(labelsWritten)));
+        assertEquals(Collections.singletonList((long) medicinesToLabel.size()),
+                labelsReported.subList(labelsReported.size() - 1, labelsReported.size()));
+
+        String text;
+        try (PDDocument document = PDDocument.load(LABEL_FILE_PATH.toFile())) {
+            assertEquals(LabelSheetExporter.PAGES_PER_SEGMENT * 2 + 1, document.getNumberOfPages());
+            text = new PDFTextStripper().getText(document);
+        }
+        int position = 0;
+        for (Medicine medicine : medicinesToLabel) {
+            position = text.indexOf("Name:" + medicine.getName(), position);
+            assertTrue(position >= 0);
+            position++;
+        }
+    }
+
+    @Test
+    public void writeData_stopped_returnsFalse() throws Exception {
+        LabelSheetExporter exporter = new LabelSheetExporter(
+                createMedicines(LabelSheetExporter.LABELS_PER_SEGMENT * 3), new FileName(LABEL_FILE_NAME), 2);
+        exporter.createFile();
+        assertFalse(exporter.writeData(labelsWritten -> false));
+
+        exporter.doCleanUp();
+        assertFalse(Files.exists(LABEL_FILE_PATH));
+    }
+
+    /**
+     * Returns {@code count} medicines with different names, numbered in the order they are in.
+     */
+    private static List<Medicine> createMedicines(int count) {
+        List<Medicine> medicines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            medicines.add(new MedicineBuilder().withName(String.format("Label %04d", i)).build());
+        }
+        return medicines;
+    }
+}
@@ -22,11 +22,13 @@ import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Inventory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyInventory;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.storage.InventorySaveStatus;
 import seedu.address.storage.JsonInventoryStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -75,7 +77,21 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_modifyingCommand_inventorySavedToStorage() throws Exception {
+        Path inventoryFilePath = temporaryFolder.newFile().toPath();
+        JsonInventoryStorage inventoryStorage = new JsonInventoryStorage(inventoryFilePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(inventoryStorage, userPrefsStorage));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_GABAPENTIN + COMPANY_DESC_GABAPENTIN);
+        logic.flushInventory();
+
+        assertEquals(InventorySaveStatus.SAVED, logic.inventorySaveStatusProperty().getValue());
+        assertEquals(new Inventory(model.getInventory()), inventoryStorage.readInventory().get());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_saveStatusFailed() throws Exception {
         // Setup LogicManager with JsonInventoryIoExceptionThrowingStub
         JsonInventoryStorage inventoryStorage =
                 new JsonInventoryIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
@@ -89,9 +105,18 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addMedicine(expectedMedicine);
         expectedModel.commitInventory();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
+        String expectedMessage = String.format(AddCommand.MESSAGE_SUCCESS, expectedMedicine);
+        assertCommandSuccess(addCommand, expectedMessage, expectedModel);
         assertHistoryCorrect(addCommand);
+
+        // the failure is reported through the save status rather than the command result
+        thrown.expect(IOException.class);
+        try {
+            logic.flushInventory();
+        } finally {
+            assertEquals(InventorySaveStatus.failed(DUMMY_IO_EXCEPTION),
+                    logic.inventorySaveStatusProperty().getValue());
+        }
     }
 
     @Test
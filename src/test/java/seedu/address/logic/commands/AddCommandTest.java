@@ -6,6 +6,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.function.Predicate;
@@ -19,6 +20,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.InformationPanelSettings;
 import seedu.address.commons.core.WarningPanelSettings;
+import seedu.address.commons.util.csv.ExportJobManager;
 import seedu.address.commons.util.warning.WarningPanelPredicateAccessor;
 import seedu.address.commons.util.warning.WarningPanelPredicateType;
 import seedu.address.logic.CommandHistory;
@@ -27,7 +29,13 @@ import seedu.address.model.Inventory;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyInventory;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UndoHistoryUsage;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.BatchNumber;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.MedicineKeywordIndex;
+import seedu.address.model.medicine.predicates.MedicineExpiryThresholdPredicate;
+import seedu.address.model.medicine.predicates.MedicineLowStockThresholdPredicate;
 import seedu.address.model.threshold.Threshold;
 import seedu.address.testutil.MedicineBuilder;
 
@@ -167,6 +175,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public MedicineKeywordIndex getKeywordIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasMedicine(Medicine medicine) {
             throw new AssertionError("This method should not be called.");
@@ -182,11 +195,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Medicine upsertBatch(Medicine target, Batch batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Medicine removeBatch(Medicine target, BatchNumber batchNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public WarningPanelPredicateAccessor getWarningPanelPredicateAccessor() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ExportJobManager getExportJobManager() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Medicine> getFilteredMedicineList() {
             throw new AssertionError("This method should not be called.");
@@ -202,18 +230,28 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyProperty<LocalDate> expiringMedicinesLimitProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void refreshExpiringMedicinesList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredMedicineList(Predicate<Medicine> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateFilteredExpiringMedicineList(Predicate<Medicine> predicate) {
+        public void updateFilteredExpiringMedicineList(MedicineExpiryThresholdPredicate predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void updateFilteredLowStockMedicineList(Predicate<Medicine> predicate) {
+        public void updateFilteredLowStockMedicineList(MedicineLowStockThresholdPredicate predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -242,6 +280,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public UndoHistoryUsage getUndoHistoryUsage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void closeUndoHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Medicine> selectedMedicineProperty() {
             throw new AssertionError("This method should not be called.");
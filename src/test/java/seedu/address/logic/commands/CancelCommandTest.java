@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.commons.io.FilenameUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import seedu.address.commons.util.FileName;
+import seedu.address.commons.util.csv.ExportStatus;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains unit tests for {@code CancelCommand}.
+ */
+public class CancelCommandTest {
+
+    private Model model = new ModelManager(getTypicalInventory(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_noExport_throwsCommandException() {
+        assertCommandFailure(new CancelCommand(), model, commandHistory, CancelCommand.MESSAGE_NO_EXPORT);
+    }
+
+    @Test
+    public void execute_exportRunning_success() throws Exception {
+        Path exportDirectoryPath = Paths.get("exported");
+        if (Files.isDirectory(exportDirectoryPath) == false) {
+            Files.createDirectory(exportDirectoryPath);
+        }
+        File filePath = File.createTempFile("tmp", ".csv", exportDirectoryPath.toFile());
+        String fileNameWithoutFileExtension = FilenameUtils.removeExtension(filePath.getName());
+        // Delete the temporary csv file so as to simulate csv file does not exist.
+        filePath.delete();
+
+        // Hold the export when it starts, so that it is still running when it is cancelled.
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        model.getExportJobManager().addStatusListener(status -> {
+            if (status.getState() == ExportStatus.State.RUNNING) {
+                started.countDown();
+                try {
+                    cancelled.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        new ExportCommand(new FileName(fileNameWithoutFileExtension)).execute(model, commandHistory);
+        started.await();
+
+        String expectedMessage = String.format(CancelCommand.MESSAGE_SUCCESS, filePath.getName());
+        assertCommandSuccess(new CancelCommand(), model, commandHistory, expectedMessage, model);
+        cancelled.countDown();
+        model.getExportJobManager().awaitCompletion();
+        Assert.assertFalse(filePath.exists());
+    }
+}
@@ -33,6 +33,7 @@ import seedu.address.model.medicine.Batch;
 import seedu.address.model.medicine.Expiry;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.ExportFormat;
 
 /**
  * Contains unit tests for {@code ExportCommand}.
@@ -54,9 +55,10 @@ public class ExportCommandTest {
         ExportCommand exportCommand = new ExportCommand(new FileName(fileNameWithoutFileExtension));
         // Delete the temporary csv file so as to simulate csv file does not exist.
         filePath.delete();
-        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, fileNameWithoutFileExtension);
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, fileName);
 
         assertCommandSuccess(exportCommand, model, commandHistory, expectedMessage, model);
+        model.getExportJobManager().awaitCompletion();
         // Clean up temporary csv file for test case which was created.
         filePath.delete();
     }
@@ -80,6 +82,28 @@ public class ExportCommandTest {
         filePath.delete();
     }
 
+    @Test
+    public void execute_wholeInventoryCompressed_success() throws Exception {
+        Path exportDirectoryPath = Paths.get("exported");
+        if (Files.isDirectory(exportDirectoryPath) == false) {
+            Files.createDirectory(exportDirectoryPath);
+        }
+        File filePath = File.createTempFile("tmp", ".jsonl.gz", exportDirectoryPath.toFile());
+        String fileName = filePath.toPath().getFileName().toString();
+        String fileNameWithoutFileExtension = fileName.substring(0, fileName.length() - ".jsonl.gz".length());
+        ExportCommand exportCommand = new ExportCommand(new FileName(fileNameWithoutFileExtension),
+                ExportFormat.JSONL_GZIP);
+        // Delete the temporary file so as to simulate the file does not exist.
+        filePath.delete();
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS_INVENTORY, fileName);
+
+        assertCommandSuccess(exportCommand, model, commandHistory, expectedMessage, model);
+        model.getExportJobManager().awaitCompletion();
+        Assert.assertTrue(filePath.exists());
+        // Clean up temporary file for test case which was created.
+        filePath.delete();
+    }
+
     @Test
     public void execute_csvFileInformationMatchesData_success() throws Exception {
         Path exportDirectoryPath = Paths.get("exported");
@@ -92,9 +116,10 @@ public class ExportCommandTest {
         ExportCommand exportCommand = new ExportCommand(new FileName(fileNameWithoutFileExtension));
         // Delete the temporary csv file so as to simulate csv file does not exist.
         filePath.delete();
-        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, fileNameWithoutFileExtension);
+        String expectedMessage = String.format(ExportCommand.MESSAGE_SUCCESS, fileName);
 
         assertCommandSuccess(exportCommand, model, commandHistory, expectedMessage, model);
+        model.getExportJobManager().awaitCompletion();
         compareActualAndExpectedData(filePath);
     }
 
@@ -17,7 +17,6 @@ import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.function.Predicate;
 
 import org.junit.Test;
 
@@ -26,9 +25,9 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.medicine.Medicine;
 import seedu.address.model.medicine.predicates.BatchContainsKeywordsPredicate;
 import seedu.address.model.medicine.predicates.CompanyContainsKeywordsPredicate;
+import seedu.address.model.medicine.predicates.ContainsKeywordsPredicate;
 import seedu.address.model.medicine.predicates.NameContainsKeywordsPredicate;
 import seedu.address.model.medicine.predicates.TagContainsKeywordsPredicate;
 
@@ -43,7 +42,7 @@ public class FindCommandTest {
     @Test
     public void execute_nameContainsKeywordsPredicate_medicineFound() {
         String expectedMessage = String.format(MESSAGE_MEDICINES_LISTED_OVERVIEW, 1);
-        Predicate<Medicine> predicate = preparePredicate(PREFIX_NAME, ACETAMINOPHEN.toString());
+        ContainsKeywordsPredicate predicate = preparePredicate(PREFIX_NAME, ACETAMINOPHEN.toString());
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredMedicineList(predicate);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -53,7 +52,7 @@ public class FindCommandTest {
     @Test
     public void execute_companyContainsKeywordsPredicate_medicineFound() {
         String expectedMessage = String.format(MESSAGE_MEDICINES_LISTED_OVERVIEW, 1);
-        Predicate<Medicine> predicate = preparePredicate(PREFIX_COMPANY, LISINOPRIL.getCompany().toString());
+        ContainsKeywordsPredicate predicate = preparePredicate(PREFIX_COMPANY, LISINOPRIL.getCompany().toString());
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredMedicineList(predicate);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -64,7 +63,7 @@ public class FindCommandTest {
     public void execute_tagContainsKeywordsPredicate_medicineFound() {
         String expectedMessage = String.format(MESSAGE_MEDICINES_LISTED_OVERVIEW, 1);
         String tag = IBUPROFEN.getTags().iterator().next().tagName;
-        Predicate<Medicine> predicate = preparePredicate(PREFIX_TAG, tag);
+        ContainsKeywordsPredicate predicate = preparePredicate(PREFIX_TAG, tag);
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredMedicineList(predicate);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -75,7 +74,7 @@ public class FindCommandTest {
     public void execute_batchContainsKeywordsPredicate_medicineFound() {
         String expectedMessage = String.format(MESSAGE_MEDICINES_LISTED_OVERVIEW, 1);
         String batch = PREDNISONE.getBatches().keySet().iterator().next().toString();
-        Predicate<Medicine> predicate = preparePredicate(PREFIX_BATCHNUMBER, batch);
+        ContainsKeywordsPredicate predicate = preparePredicate(PREFIX_BATCHNUMBER, batch);
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredMedicineList(predicate);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -85,7 +84,7 @@ public class FindCommandTest {
     @Test
     public void execute_multipleKeywords_multipleMedicinesFound() {
         String expectedMessage = String.format(MESSAGE_MEDICINES_LISTED_OVERVIEW, 3);
-        Predicate<Medicine> predicate = preparePredicate(PREFIX_NAME, ACETAMINOPHEN.toString() + " "
+        ContainsKeywordsPredicate predicate = preparePredicate(PREFIX_NAME, ACETAMINOPHEN.toString() + " "
                 + LISINOPRIL.toString() + " " + PREDNISONE.toString());
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredMedicineList(predicate);
@@ -96,7 +95,7 @@ public class FindCommandTest {
     @Test
     public void execute_nonPresentKeywords_noMedicinesFound() {
         String expectedMessage = String.format(MESSAGE_MEDICINES_LISTED_OVERVIEW, 0);
-        Predicate<Medicine> predicate = preparePredicate(PREFIX_COMPANY, "one two three");
+        ContainsKeywordsPredicate predicate = preparePredicate(PREFIX_COMPANY, "one two three");
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredMedicineList(predicate);
         assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
@@ -104,9 +103,9 @@ public class FindCommandTest {
     }
 
     /**
-     * Parses {@code userInput} into a {@code Predicate<Medicine>}.
+     * Parses {@code userInput} into a {@code ContainsKeywordsPredicate}.
      */
-    private Predicate<Medicine> preparePredicate(Prefix prefix, String userInput) {
+    private ContainsKeywordsPredicate preparePredicate(Prefix prefix, String userInput) {
         String[] keywords = userInput.split("\\s+");
         if (prefix == PREFIX_NAME) {
             return new NameContainsKeywordsPredicate(Arrays.asList(keywords));
@@ -1,10 +1,13 @@
 package seedu.address.logic.commands;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.LabelCommand.DEFAULT_FILENAME;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_MEDICINE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MEDICINE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_MEDICINE;
 import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
 
 import java.io.File;
@@ -12,6 +15,8 @@ import java.io.IOException;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
@@ -22,12 +27,14 @@ import org.junit.Test;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.FileName;
+import seedu.address.commons.util.pdf.PdfWrapper;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.predicates.NameContainsKeywordsPredicate;
 
 public class LabelCommandTest {
     private static final String DEFAULT_LABEL_FOLDER_NAME = "PDF";
@@ -83,6 +90,107 @@ public class LabelCommandTest {
         assertCommandFailure(labelCommand, model, commandHistory, Messages.MESSAGE_INVALID_MEDICINE_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_labelRangeUnfilteredList_success() throws Exception {
+        List<Medicine> medicinesToLabel = model.getFilteredMedicineList().subList(0, 3);
+
+        LabelCommand labelCommand = new LabelCommand(INDEX_FIRST_MEDICINE, INDEX_THIRD_MEDICINE,
+                new FileName("range"));
+        assertEquals(String.format(LabelCommand.MESSAGE_LABEL_MEDICINES_SUCCESS, 3, "range.pdf"),
+                labelCommand.execute(model, commandHistory).getFeedbackToUser());
+        model.getExportJobManager().awaitCompletion();
+        assertLabelSheet("range", medicinesToLabel);
+    }
+
+    @Test
+    public void execute_labelWholeList_success() throws Exception {
+        List<Medicine> medicinesToLabel = model.getFilteredMedicineList();
+
+        LabelCommand labelCommand = new LabelCommand(new FileName("wholeList"));
+        assertEquals(String.format(LabelCommand.MESSAGE_LABEL_MEDICINES_SUCCESS, medicinesToLabel.size(),
+                "wholeList.pdf"), labelCommand.execute(model, commandHistory).getFeedbackToUser());
+        model.getExportJobManager().awaitCompletion();
+        assertLabelSheet("wholeList", medicinesToLabel);
+    }
+
+    @Test
+    public void execute_labelFindQuery_success() throws Exception {
+        Medicine medicineToLabel = model.getFilteredMedicineList().get(1);
+        String keyword = medicineToLabel.getName().fullName.split("\\s+")[0];
+
+        LabelCommand labelCommand = new LabelCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList(keyword)), new FileName("findQuery"));
+        labelCommand.execute(model, commandHistory);
+        model.getExportJobManager().awaitCompletion();
+        String actualMessage = readFromPdf(getLabelFile("findQuery"));
+        getLabelFile("findQuery").delete();
+
+        assertTrue(actualMessage.contains("Name:" + medicineToLabel.getName()));
+    }
+
+    @Test
+    public void execute_invalidRangeUnfilteredList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredMedicineList().size() + 1);
+        LabelCommand labelCommand = new LabelCommand(INDEX_FIRST_MEDICINE, outOfBoundIndex, fileName);
+
+        assertCommandFailure(labelCommand, model, commandHistory, Messages.MESSAGE_INVALID_MEDICINE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noMatchingMedicines_throwsCommandException() {
+        LabelCommand labelCommand = new LabelCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("nothingMatchesThis")), fileName);
+
+        assertCommandFailure(labelCommand, model, commandHistory, LabelCommand.MESSAGE_NO_MEDICINES_TO_LABEL);
+    }
+
+    @Test
+    public void equals() {
+        FileName otherFileName = new FileName("other");
+        LabelCommand labelFirstCommand = new LabelCommand(INDEX_FIRST_MEDICINE, fileName);
+        LabelCommand labelRangeCommand = new LabelCommand(INDEX_FIRST_MEDICINE, INDEX_SECOND_MEDICINE, fileName);
+        LabelCommand labelAllCommand = new LabelCommand(fileName);
+
+        // same values -> returns true
+        assertTrue(labelFirstCommand.equals(new LabelCommand(INDEX_FIRST_MEDICINE, fileName)));
+        assertTrue(labelRangeCommand.equals(new LabelCommand(INDEX_FIRST_MEDICINE, INDEX_SECOND_MEDICINE, fileName)));
+
+        // different file name -> returns false
+        assertFalse(labelAllCommand.equals(new LabelCommand(otherFileName)));
+
+        // single label and range starting at the same index -> returns false
+        assertFalse(labelFirstCommand.equals(labelRangeCommand));
+
+        // whole list and single label -> returns false
+        assertFalse(labelAllCommand.equals(labelFirstCommand));
+    }
+
+    /**
+     * Asserts that the label file named {@code labelFileName} has a label for each of {@code medicinesToLabel}
+     * in order, on as many pages as needed to fit them, then deletes the file.
+     */
+    private void assertLabelSheet(String labelFileName, List<Medicine> medicinesToLabel) throws IOException {
+        File printedFile = getLabelFile(labelFileName);
+        try (PDDocument document = PDDocument.load(printedFile)) {
+            int expectedPages = (medicinesToLabel.size() + PdfWrapper.LABELS_PER_PAGE - 1)
+                    / PdfWrapper.LABELS_PER_PAGE;
+            assertEquals(expectedPages, document.getNumberOfPages());
+        }
+        String actualMessage = readFromPdf(printedFile);
+        printedFile.delete();
+
+        int position = 0;
+        for (Medicine medicine : medicinesToLabel) {
+            position = actualMessage.indexOf("Name:" + medicine.getName(), position);
+            assertTrue(position >= 0);
+            position++;
+        }
+    }
+
+    private File getLabelFile(String labelFileName) {
+        return Paths.get(DEFAULT_LABEL_FOLDER_NAME, labelFileName + ".pdf").toFile();
+    }
+
     /**
      * Helper function to read content from {@code file} file and output it as a String.
      */
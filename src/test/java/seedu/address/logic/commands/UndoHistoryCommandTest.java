@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.deleteFirstMedicine;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UndoHistoryUsage;
+import seedu.address.model.UserPrefs;
+
+public class UndoHistoryCommandTest {
+    private final Model model = new ModelManager(getTypicalInventory(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalInventory(), new UserPrefs());
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_emptyHistory_reportsNoStates() {
+        String expectedMessage = String.format(UndoHistoryCommand.MESSAGE_SUCCESS, 0, 0, 0, "0 B", 0, "0 B");
+        assertCommandSuccess(new UndoHistoryCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_undoneCommand_reportsUndoableAndRedoableStates() {
+        deleteFirstMedicine(model);
+        deleteFirstMedicine(model);
+        model.undoInventory();
+        deleteFirstMedicine(expectedModel);
+        deleteFirstMedicine(expectedModel);
+        expectedModel.undoInventory();
+
+        UndoHistoryUsage usage = model.getUndoHistoryUsage();
+        assertEquals(1, usage.getUndoableStates());
+        assertEquals(1, usage.getRedoableStates());
+        assertEquals(2, usage.getStatesInMemory());
+
+        String expectedMessage = String.format(UndoHistoryCommand.MESSAGE_SUCCESS, 1, 1, 2,
+                UndoHistoryCommand.formatBytes(usage.getEstimatedMemoryBytes()), 0, "0 B");
+        assertCommandSuccess(new UndoHistoryCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("512 B", UndoHistoryCommand.formatBytes(512));
+        assertEquals(String.format("%.1f KB", 1.5), UndoHistoryCommand.formatBytes(1536));
+        assertEquals(String.format("%.1f MB", 2.0), UndoHistoryCommand.formatBytes(2 * 1024 * 1024));
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.Test;
 
 import seedu.address.commons.util.FileName;
 import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.ExportFormat;
 
 public class ExportCommandParserTest {
     private ExportCommandParser parser = new ExportCommandParser();
@@ -24,6 +25,28 @@ public class ExportCommandParserTest {
 
     }
 
+    @Test
+    public void parse_formatPresent_success() {
+        FileName expectedFileName = new FileName("example");
+
+        // compressed csv
+        assertParseSuccess(parser, "example o/csv.gz", new ExportCommand(expectedFileName, ExportFormat.CSV_GZIP));
+
+        // compressed json lines, ignoring case
+        assertParseSuccess(parser, "example o/JSONL.GZ",
+                new ExportCommand(expectedFileName, ExportFormat.JSONL_GZIP));
+
+        // uncompressed csv
+        assertParseSuccess(parser, "example o/csv", new ExportCommand(expectedFileName));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        assertParseFailure(parser, "example o/zip",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT_DETAILED, ExportFormat.MESSAGE_CONSTRAINTS,
+                        ExportCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_optionalFileNameFieldsMissing_success() {
         SimpleDateFormat currentDateAndTimeFormat = new SimpleDateFormat("dd_MMM_yyyy_HH_mm_ss");
@@ -17,6 +17,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.util.FileName;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -30,6 +31,7 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UndoHistoryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.medicine.predicates.NameContainsKeywordsPredicate;
@@ -51,6 +53,12 @@ public class InventoryParserTest {
         assertEquals(new AddCommand(medicine), command);
     }
 
+    @Test
+    public void parseCommand_cancel() throws Exception {
+        assertTrue(parser.parseCommand(CancelCommand.COMMAND_WORD) instanceof CancelCommand);
+        assertTrue(parser.parseCommand(CancelCommand.COMMAND_WORD + " 3") instanceof CancelCommand);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -131,6 +139,12 @@ public class InventoryParserTest {
         assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_undoHistoryCommandWord_returnsUndoHistoryCommand() throws Exception {
+        assertTrue(parser.parseCommand(UndoHistoryCommand.COMMAND_WORD) instanceof UndoHistoryCommand);
+        assertTrue(parser.parseCommand(UndoHistoryCommand.COMMAND_WORD + " 3") instanceof UndoHistoryCommand);
+    }
+
     @Test
     public void parseCommand_exportCommandWord_returnsExportCommand() throws Exception {
         FileName fileName = new FileName("example");
@@ -5,11 +5,15 @@ import static seedu.address.logic.commands.LabelCommand.DEFAULT_FILENAME;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.FileName;
 import seedu.address.logic.commands.LabelCommand;
+import seedu.address.model.medicine.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.medicine.predicates.TagContainsKeywordsPredicate;
 
 public class LabelCommandParserTest {
     private LabelCommandParser parser = new LabelCommandParser();
@@ -33,6 +37,34 @@ public class LabelCommandParserTest {
 
     }
 
+    @Test
+    public void parse_range_success() {
+        FileName expectedFileName = new FileName("newFile");
+
+        assertParseSuccess(parser, "1-3 f/newFile",
+                new LabelCommand(new Index(0), new Index(2), expectedFileName));
+
+        // range of a single index
+        assertParseSuccess(parser, "2-2", new LabelCommand(new Index(1), new Index(1),
+                new FileName(DEFAULT_FILENAME)));
+    }
+
+    @Test
+    public void parse_wholeList_success() {
+        assertParseSuccess(parser, LabelCommand.ALL_KEYWORD + " f/newFile",
+                new LabelCommand(new FileName("newFile")));
+    }
+
+    @Test
+    public void parse_findQuery_success() {
+        FileName expectedFileName = new FileName("newFile");
+
+        assertParseSuccess(parser, "n/Paracetamol Ibuprofen f/newFile", new LabelCommand(
+                new NameContainsKeywordsPredicate(Arrays.asList("Paracetamol", "Ibuprofen")), expectedFileName));
+        assertParseSuccess(parser, "t/fever", new LabelCommand(
+                new TagContainsKeywordsPredicate(Arrays.asList("fever")), new FileName(DEFAULT_FILENAME)));
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LabelCommand.MESSAGE_USAGE);
@@ -62,6 +94,18 @@ public class LabelCommandParserTest {
         // Invalid User Input
         assertParseFailure(parser, "-", expectedMessage);
 
+        // Range ending before it starts
+        assertParseFailure(parser, "3-1", expectedMessage);
+
+        // Range missing an end
+        assertParseFailure(parser, "1-", expectedMessage);
+
+        // Find query without keywords
+        assertParseFailure(parser, "n/ f/newFile", expectedMessage);
+
+        // Find query with more than one prefix
+        assertParseFailure(parser, "n/Paracetamol t/fever", expectedMessage);
+
         // Invalid File name (no spacing allowed)
         assertParseFailure(parser, "1 f/new File", expectedMessage);
     }
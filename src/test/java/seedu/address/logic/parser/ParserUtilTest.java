@@ -21,6 +21,7 @@ import seedu.address.model.medicine.Expiry;
 import seedu.address.model.medicine.Name;
 import seedu.address.model.medicine.Quantity;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.ExportFormat;
 import seedu.address.testutil.Assert;
 
 public class ParserUtilTest {
@@ -205,4 +206,17 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseExportFormat_invalidValue_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(ExportFormat.MESSAGE_CONSTRAINTS);
+        ParserUtil.parseExportFormat("zip");
+    }
+
+    @Test
+    public void parseExportFormat_validValueWithWhitespace_returnsExportFormat() throws Exception {
+        assertEquals(ExportFormat.CSV_GZIP, ParserUtil.parseExportFormat(WHITESPACE + "csv.gz" + WHITESPACE));
+        assertEquals(ExportFormat.JSONL_GZIP, ParserUtil.parseExportFormat("JSONL.GZ"));
+    }
 }
@@ -11,13 +11,18 @@ import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.WarningPanelSettings;
 import seedu.address.commons.util.warning.WarningPanelPredicateAccessor;
@@ -195,6 +200,75 @@ public class ModelManagerTest {
         modelManager.updateFilteredLowStockMedicineList(null);
     }
 
+    @Test
+    public void changeWarningPanelListThreshold_lowStock_onlyMedicinesCrossingThresholdChanged() {
+        modelManager.addMedicine(PARACETAMOL);
+        modelManager.addMedicine(IBUPROFEN);
+        modelManager.changeWarningPanelListThreshold(WarningPanelPredicateType.LOW_STOCK,
+                new Threshold("312", WarningPanelPredicateType.LOW_STOCK));
+        assertEquals(Collections.singletonList(PARACETAMOL), modelManager.getLowStockMedicinesList());
+
+        List<Medicine> addedMedicines = new ArrayList<>();
+        List<Medicine> removedMedicines = new ArrayList<>();
+        ListChangeListener<Medicine> listener = change -> {
+            while (change.next()) {
+                addedMedicines.addAll(change.getAddedSubList());
+                removedMedicines.addAll(change.getRemoved());
+            }
+        };
+        modelManager.getLowStockMedicinesList().addListener(listener);
+
+        modelManager.changeWarningPanelListThreshold(WarningPanelPredicateType.LOW_STOCK,
+                new Threshold("500", WarningPanelPredicateType.LOW_STOCK));
+        assertEquals(Arrays.asList(IBUPROFEN, PARACETAMOL), modelManager.getLowStockMedicinesList());
+        assertEquals(Collections.singletonList(IBUPROFEN), addedMedicines);
+        assertEquals(Collections.emptyList(), removedMedicines);
+
+        addedMedicines.clear();
+        modelManager.changeWarningPanelListThreshold(WarningPanelPredicateType.LOW_STOCK,
+                new Threshold("400", WarningPanelPredicateType.LOW_STOCK));
+        assertEquals(Collections.singletonList(PARACETAMOL), modelManager.getLowStockMedicinesList());
+        assertEquals(Collections.emptyList(), addedMedicines);
+        assertEquals(Collections.singletonList(IBUPROFEN), removedMedicines);
+    }
+
+    @Test
+    public void changeWarningPanelListThreshold_expiry_staysIncrementalAndLimitChangedAfterThresholdUpdated() {
+        modelManager.addMedicine(PARACETAMOL);
+        modelManager.addMedicine(IBUPROFEN);
+        modelManager.changeWarningPanelListThreshold(WarningPanelPredicateType.EXPIRY, new Threshold(
+                Integer.toString(Threshold.MAX_EXPIRY_THRESHOLD), WarningPanelPredicateType.EXPIRY));
+        assertFalse(modelManager.getExpiringMedicinesList().isEmpty());
+        Threshold threshold = new Threshold(Integer.toString(Threshold.MAX_EXPIRY_THRESHOLD - 1),
+                WarningPanelPredicateType.EXPIRY);
+
+        // medicines staying in the list are left alone, and cards are refreshed through the limit instead
+        List<ListChangeListener.Change<? extends Medicine>> changes = new ArrayList<>();
+        ListChangeListener<Medicine> listener = changes::add;
+        modelManager.getExpiringMedicinesList().addListener(listener);
+        List<Threshold> thresholdsSeen = new ArrayList<>();
+        modelManager.expiringMedicinesLimitProperty().addListener((unused1, unused2, unused3) ->
+                thresholdsSeen.add(modelManager.getWarningPanelPredicateAccessor().getExpiryThreshold()));
+
+        modelManager.changeWarningPanelListThreshold(WarningPanelPredicateType.EXPIRY, threshold);
+        assertEquals(Collections.emptyList(), changes);
+        assertEquals(Collections.singletonList(threshold), thresholdsSeen);
+        assertEquals(threshold.getNumericValue(), ChronoUnit.DAYS.between(LocalDate.now(),
+                modelManager.expiringMedicinesLimitProperty().getValue()));
+    }
+
+    @Test
+    public void refreshExpiringMedicinesList_sameDate_limitUnchanged() {
+        LocalDate limit = modelManager.expiringMedicinesLimitProperty().getValue();
+        List<LocalDate> limitsSeen = new ArrayList<>();
+        modelManager.expiringMedicinesLimitProperty().addListener((unused, oldLimit, newLimit) ->
+                limitsSeen.add(newLimit));
+
+        modelManager.refreshExpiringMedicinesList();
+        // the test may run across midnight, in which case the limit moves on by a day
+        assertTrue(limitsSeen.isEmpty() || limitsSeen.equals(Collections.singletonList(limit.plusDays(1))));
+    }
+
     @Test
     public void setSelectedMedicine_medicineNotInFilteredMedicineList_throwsMedicineNotFoundException() {
         thrown.expect(MedicineNotFoundException.class);
@@ -0,0 +1,102 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalMedicines.ACETAMINOPHEN;
+import static seedu.address.testutil.TypicalMedicines.IBUPROFEN;
+import static seedu.address.testutil.TypicalMedicines.LISINOPRIL;
+import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.testutil.MedicineBuilder;
+
+public class ThresholdMedicineListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Medicine> source =
+            FXCollections.observableArrayList(PARACETAMOL, IBUPROFEN, LISINOPRIL, ACETAMINOPHEN);
+    private final ThresholdMedicineList<LocalDate> thresholdList = new ThresholdMedicineList<>(source,
+            Comparator.naturalOrder(), medicine -> medicine.getNextExpiry().getExpiryDate(), LocalDate.of(2019, 7, 6));
+
+    @Test
+    public void constructor_medicinesWithoutKey_excluded() {
+        assertEquals(Collections.singletonList(LISINOPRIL), thresholdList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setLimit_raisedAndLowered_onlyCrossingMedicinesChanged() {
+        List<ListChangeListener.Change<? extends Medicine>> changes = new ArrayList<>();
+        ListChangeListener<Medicine> listener = changes::add;
+        thresholdList.asUnmodifiableObservableList().addListener(listener);
+
+        thresholdList.setLimit(LocalDate.of(2019, 12, 31));
+        assertEquals(Arrays.asList(IBUPROFEN, LISINOPRIL, PARACETAMOL), thresholdList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList(IBUPROFEN, PARACETAMOL), getAddedMedicines(changes));
+
+        changes.clear();
+        thresholdList.setLimit(LocalDate.of(2019, 9, 21));
+        assertEquals(Arrays.asList(IBUPROFEN, LISINOPRIL), thresholdList.asUnmodifiableObservableList());
+        assertEquals(Collections.emptyList(), getAddedMedicines(changes));
+    }
+
+    @Test
+    public void setLimit_limitPropertyChangedAfterMedicines() {
+        List<List<Medicine>> medicinesSeen = new ArrayList<>();
+        thresholdList.limitProperty().addListener((unused1, unused2, unused3) ->
+                medicinesSeen.add(new ArrayList<>(thresholdList.asUnmodifiableObservableList())));
+
+        thresholdList.setLimit(LocalDate.of(2019, 12, 31));
+        assertEquals(LocalDate.of(2019, 12, 31), thresholdList.limitProperty().getValue());
+        assertEquals(Collections.singletonList(Arrays.asList(IBUPROFEN, LISINOPRIL, PARACETAMOL)), medicinesSeen);
+
+        // the same limit again -> not changed
+        thresholdList.setLimit(LocalDate.of(2019, 12, 31));
+        assertEquals(1, medicinesSeen.size());
+    }
+
+    @Test
+    public void sourceChanged_viewUpdated() {
+        Medicine expiringParacetamol = new MedicineBuilder(PARACETAMOL).withExpiry("01/01/2019").build();
+        source.set(0, expiringParacetamol);
+        assertEquals(Arrays.asList(LISINOPRIL, expiringParacetamol), thresholdList.asUnmodifiableObservableList());
+
+        source.remove(LISINOPRIL);
+        assertEquals(Collections.singletonList(expiringParacetamol), thresholdList.asUnmodifiableObservableList());
+
+        source.setAll(IBUPROFEN, LISINOPRIL);
+        assertEquals(Collections.singletonList(LISINOPRIL), thresholdList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        thresholdList.asUnmodifiableObservableList().remove(0);
+    }
+
+    private static List<Medicine> getAddedMedicines(List<ListChangeListener.Change<? extends Medicine>> changes) {
+        List<Medicine> added = new ArrayList<>();
+        for (ListChangeListener.Change<? extends Medicine> change : changes) {
+            change.reset();
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+        }
+        added.sort(Comparator.naturalOrder());
+        return added;
+    }
+}
@@ -8,13 +8,20 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalMedicines.ACETAMINOPHEN;
 import static seedu.address.testutil.TypicalMedicines.AMOXICILLIN;
 import static seedu.address.testutil.TypicalMedicines.GABAPENTIN;
+import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.UndoHistorySettings;
+import seedu.address.model.medicine.Medicine;
+
 import seedu.address.testutil.InventoryBuilder;
 
 public class VersionedInventoryTest {
@@ -209,6 +216,153 @@ public class VersionedInventoryTest {
         assertThrows(VersionedInventory.NoRedoableStateException.class, versionedInventory::redo);
     }
 
+    @Test
+    public void undo_medicineLevelChangesCommitted_previousStateRestored() {
+        ReadOnlyInventory typicalInventory = getTypicalInventory();
+        VersionedInventory versionedInventory = new VersionedInventory(typicalInventory);
+        versionedInventory.removeMedicine(PARACETAMOL);
+        versionedInventory.addMedicine(AMOXICILLIN);
+        versionedInventory.commit();
+        Inventory inventoryAfterChanges = new Inventory(versionedInventory);
+
+        versionedInventory.undo();
+        assertEquals(typicalInventory, new Inventory(versionedInventory));
+
+        versionedInventory.redo();
+        assertEquals(inventoryAfterChanges, new Inventory(versionedInventory));
+    }
+
+    @Test
+    public void undo_deletedMedicine_restoredToOriginalPositionWithSingleChange() {
+        VersionedInventory versionedInventory = new VersionedInventory(getTypicalInventory());
+        List<Medicine> originalMedicines = new ArrayList<>(versionedInventory.getMedicineList());
+        Medicine deletedMedicine = originalMedicines.get(1);
+        versionedInventory.removeMedicine(deletedMedicine);
+        versionedInventory.commit();
+
+        List<ListChangeListener.Change<? extends Medicine>> changes = new ArrayList<>();
+        ListChangeListener<Medicine> listener = changes::add;
+        versionedInventory.getMedicineList().addListener(listener);
+        versionedInventory.undo();
+
+        assertEquals(originalMedicines, versionedInventory.getMedicineList());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Medicine> change = changes.get(0);
+        change.reset();
+        assertTrue(change.next());
+        assertTrue(change.wasAdded() && !change.wasRemoved());
+        assertEquals(Collections.singletonList(deletedMedicine), change.getAddedSubList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedInventory versionedInventory = prepareInventoryList(emptyInventory, inventoryWithAmoxicillin);
+        versionedInventory.addMedicine(GABAPENTIN);
+
+        versionedInventory.undo();
+        assertEquals(emptyInventory, new Inventory(versionedInventory));
+
+        versionedInventory.redo();
+        assertEquals(inventoryWithAmoxicillin, new Inventory(versionedInventory));
+    }
+
+    @Test
+    public void commit_beyondMaxUndoDepth_oldestStatesDiscarded() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory,
+                new UndoHistorySettings(2, UndoHistorySettings.DEFAULT_MAX_MEMORY_BYTES));
+        versionedInventory.resetData(inventoryWithAmoxicillin);
+        versionedInventory.commit();
+        versionedInventory.resetData(inventoryWithGabapentin);
+        versionedInventory.commit();
+        versionedInventory.resetData(inventoryWithAcetaminophen);
+        versionedInventory.commit();
+
+        assertInventoryListStatus(versionedInventory,
+                Arrays.asList(inventoryWithAmoxicillin, inventoryWithGabapentin),
+                inventoryWithAcetaminophen,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_statesBeyondMemoryBudget_statesReadBackFromDisk() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory,
+                new UndoHistorySettings(UndoHistorySettings.DEFAULT_MAX_UNDO_DEPTH, 0));
+        versionedInventory.resetData(inventoryWithAmoxicillin);
+        versionedInventory.commit();
+        versionedInventory.resetData(inventoryWithGabapentin);
+        versionedInventory.commit();
+        versionedInventory.resetData(inventoryWithAcetaminophen);
+        versionedInventory.commit();
+
+        UndoHistoryUsage usage = versionedInventory.getUndoHistoryUsage();
+        assertEquals(1, usage.getStatesInMemory());
+        assertEquals(2, usage.getStatesOnDisk());
+        assertTrue(usage.getDiskBytes() > 0);
+
+        assertInventoryListStatus(versionedInventory,
+                Arrays.asList(emptyInventory, inventoryWithAmoxicillin, inventoryWithGabapentin),
+                inventoryWithAcetaminophen,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_afterUndoingStatesOnDisk_statesOnDiskDiscarded() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory,
+                new UndoHistorySettings(UndoHistorySettings.DEFAULT_MAX_UNDO_DEPTH, 0));
+        versionedInventory.resetData(inventoryWithAmoxicillin);
+        versionedInventory.commit();
+        versionedInventory.resetData(inventoryWithGabapentin);
+        versionedInventory.commit();
+        shiftCurrentStatePointerLeftwards(versionedInventory, 2);
+
+        versionedInventory.resetData(inventoryWithAcetaminophen);
+        versionedInventory.commit();
+        assertEquals(0, versionedInventory.getUndoHistoryUsage().getStatesOnDisk());
+        assertInventoryListStatus(versionedInventory,
+                Collections.singletonList(emptyInventory),
+                inventoryWithAcetaminophen,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_statesOnDiskBeyondMaxUndoDepth_discardedSpaceReclaimed() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory,
+                new UndoHistorySettings(3, 0));
+        for (int i = 0; i < 3000; i++) {
+            versionedInventory.resetData(i % 2 == 0 ? inventoryWithAmoxicillin : inventoryWithGabapentin);
+            versionedInventory.commit();
+        }
+
+        UndoHistoryUsage usage = versionedInventory.getUndoHistoryUsage();
+        assertEquals(2, usage.getStatesOnDisk());
+        assertTrue(usage.getDiskBytes() < 2 * InventoryHistory.JOURNAL_COMPACTION_MIN_BYTES);
+        assertInventoryListStatus(versionedInventory,
+                Arrays.asList(inventoryWithAmoxicillin, inventoryWithGabapentin, inventoryWithAmoxicillin),
+                inventoryWithGabapentin,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void closeHistory_statesOnDisk_journalDeleted() {
+        VersionedInventory versionedInventory = new VersionedInventory(emptyInventory,
+                new UndoHistorySettings(UndoHistorySettings.DEFAULT_MAX_UNDO_DEPTH, 0));
+        versionedInventory.resetData(inventoryWithAmoxicillin);
+        versionedInventory.commit();
+        versionedInventory.resetData(inventoryWithGabapentin);
+        versionedInventory.commit();
+        versionedInventory.resetData(inventoryWithAcetaminophen);
+        versionedInventory.commit();
+
+        versionedInventory.closeHistory();
+        UndoHistoryUsage usage = versionedInventory.getUndoHistoryUsage();
+        assertEquals(0, usage.getStatesOnDisk());
+        assertEquals(0, usage.getDiskBytes());
+        assertInventoryListStatus(versionedInventory,
+                Collections.singletonList(inventoryWithGabapentin),
+                inventoryWithAcetaminophen,
+                Collections.emptyList());
+    }
+
     @Test
     public void equals() {
         VersionedInventory versionedInventory = prepareInventoryList(inventoryWithAmoxicillin, inventoryWithGabapentin);
@@ -0,0 +1,101 @@
+package seedu.address.model.medicine;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.medicine.MedicineKeywordIndex.Field;
+import seedu.address.testutil.MedicineBuilder;
+
+public class MedicineKeywordIndexTest {
+
+    private final MedicineKeywordIndex index = new MedicineKeywordIndex();
+
+    @Test
+    public void matchingAnyWord_addedMedicine_matchesWordsIgnoringCase() {
+        Medicine medicine = new MedicineBuilder().withName("Levothyroxine Sodium").withTags("thyroid").build();
+        index.add(medicine);
+
+        assertTrue(index.matchingAnyWord(Field.NAME, Arrays.asList("aspirin", "SODIUM")).test(medicine));
+        assertTrue(index.matchingAnyWord(Field.TAG, Collections.singletonList("Thyroid")).test(medicine));
+        assertFalse(index.matchingAnyWord(Field.NAME, Collections.singletonList("Sod")).test(medicine));
+        assertFalse(index.matchingAnyWord(Field.COMPANY, Collections.singletonList("Sodium")).test(medicine));
+    }
+
+    @Test
+    public void matchingAnyWord_removedMedicine_noMatch() {
+        Medicine medicine = new MedicineBuilder().withName("Aspirin").build();
+        index.add(medicine);
+        index.remove(medicine);
+
+        assertFalse(index.matchingAnyWord(Field.NAME, Collections.singletonList("Aspirin")).test(medicine));
+    }
+
+    @Test
+    public void update_sameMedicineWithChangedBatch_reindexesBatchNumbers() {
+        Batch oldBatch = new Batch(new BatchNumber("A1"), new Quantity("5"), new Expiry("01/01/2019"));
+        Batch newBatch = new Batch(new BatchNumber("B2"), new Quantity("5"), new Expiry("01/01/2019"));
+        Medicine medicine = new MedicineBuilder().build().withBatch(oldBatch);
+        Medicine updatedMedicine = medicine.withoutBatch(oldBatch.getBatchNumber()).withBatch(newBatch);
+        index.add(medicine);
+        index.update(medicine, updatedMedicine);
+
+        assertFalse(index.matchingAnyWord(Field.BATCH_NUMBER, Collections.singletonList("A1")).test(updatedMedicine));
+        assertTrue(index.matchingAnyWord(Field.BATCH_NUMBER, Collections.singletonList("b2")).test(updatedMedicine));
+    }
+
+    @Test
+    public void update_differentMedicine_replacesAllWords() {
+        Medicine medicine = new MedicineBuilder().withName("Aspirin").build();
+        Medicine renamedMedicine = new MedicineBuilder().withName("Panadol").build();
+        index.add(medicine);
+        index.update(medicine, renamedMedicine);
+
+        assertFalse(index.matchingAnyWord(Field.NAME, Collections.singletonList("Aspirin")).test(medicine));
+        assertTrue(index.matchingAnyWord(Field.NAME, Collections.singletonList("Panadol")).test(renamedMedicine));
+    }
+
+    @Test
+    public void matchingAnyWord_medicineWithBatchesNotLoaded_batchNumbersSearchedWithoutIndexing() {
+        Batch batch = new Batch(new BatchNumber("A1 B2"), new Quantity("5"), new Expiry("01/01/2019"));
+        Medicine loadedMedicine = new MedicineBuilder().withName("Aspirin").build().withBatch(batch);
+        Medicine medicine = Medicine.withBatchLoader(loadedMedicine.getName(), loadedMedicine.getCompany(),
+                loadedMedicine.getTotalQuantity(), loadedMedicine.getNextExpiry(), loadedMedicine.getTags(),
+                loadedMedicine::getBatches);
+        index.add(medicine);
+
+        assertTrue(index.matchingAnyWord(Field.NAME, Collections.singletonList("aspirin")).test(medicine));
+        assertFalse(medicine.isBatchesLoaded());
+        assertTrue(index.matchingAnyWord(Field.BATCH_NUMBER, Collections.singletonList("b2")).test(medicine));
+        assertFalse(index.matchingAnyWord(Field.BATCH_NUMBER, Collections.singletonList("C3")).test(medicine));
+
+        // batches changed -> batch numbers indexed
+        Batch newBatch = new Batch(new BatchNumber("C3"), new Quantity("5"), new Expiry("01/01/2019"));
+        Medicine updatedMedicine = medicine.withBatch(newBatch);
+        index.update(medicine, updatedMedicine);
+        assertTrue(index.matchingAnyWord(Field.BATCH_NUMBER, Arrays.asList("C3", "A1")).test(updatedMedicine));
+
+        index.remove(updatedMedicine);
+        assertFalse(index.matchingAnyWord(Field.BATCH_NUMBER, Arrays.asList("C3", "A1")).test(updatedMedicine));
+    }
+
+    @Test
+    public void matchingAnyWord_indexChangedAfterResolving_matchesFollowIndex() {
+        Medicine aspirin = new MedicineBuilder().withName("Aspirin").build();
+        Medicine panadol = new MedicineBuilder().withName("Panadol Aspirin").build();
+        index.add(aspirin);
+        Predicate<Medicine> matcher = index.matchingAnyWord(Field.NAME, Collections.singletonList("aspirin"));
+        assertTrue(matcher.test(aspirin));
+        assertFalse(matcher.test(panadol));
+
+        index.add(panadol);
+        index.remove(aspirin);
+        assertTrue(matcher.test(panadol));
+        assertFalse(matcher.test(aspirin));
+    }
+}
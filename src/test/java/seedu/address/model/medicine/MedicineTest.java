@@ -1,6 +1,8 @@
 package seedu.address.model.medicine;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_COMPANY_GABAPENTIN;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EXPIRY_GABAPENTIN;
@@ -10,6 +12,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_PAINKILLER;
 import static seedu.address.testutil.TypicalMedicines.GABAPENTIN;
 import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -27,6 +38,95 @@ public class MedicineTest {
         medicine.getTags().remove(0);
     }
 
+    @Test
+    public void withBatch_newBatch_updatesTotalQuantityAndNextExpiry() {
+        Batch earlierBatch = new Batch(new BatchNumber("A1"), new Quantity("8"), new Expiry("01/01/2019"));
+        Medicine updatedParacetamol = PARACETAMOL.withBatch(earlierBatch);
+
+        Medicine expectedMedicine = new MedicineBuilder(PARACETAMOL).withQuantity("320").withExpiry("01/01/2019")
+                .withAddedBatch(earlierBatch).build();
+        assertEquals(expectedMedicine, updatedParacetamol);
+        assertFalse(PARACETAMOL.getBatches().containsKey(earlierBatch.getBatchNumber()));
+    }
+
+    @Test
+    public void withBatch_existingBatch_replacesBatch() {
+        Batch existingBatch = PARACETAMOL.getBatches().values().iterator().next();
+        Batch replacementBatch = new Batch(existingBatch.getBatchNumber(), new Quantity("12"),
+                new Expiry("02/02/2020"));
+
+        Medicine updatedParacetamol = PARACETAMOL.withBatch(replacementBatch);
+        assertEquals("12", updatedParacetamol.getTotalQuantity().toString());
+        assertEquals(new Expiry("02/02/2020"), updatedParacetamol.getNextExpiry());
+        assertEquals(1, updatedParacetamol.getBatches().size());
+    }
+
+    @Test
+    public void withBatch_maxQuantityExceeded_throwsIllegalArgumentException() {
+        Batch largeBatch = new Batch(new BatchNumber("A1"), new Quantity(Integer.toString(Quantity.MAX_QUANTITY)),
+                new Expiry("01/01/2019"));
+        thrown.expect(IllegalArgumentException.class);
+        PARACETAMOL.withBatch(largeBatch);
+    }
+
+    @Test
+    public void withBatchLoader_batchesLoadedOnceWhenFirstNeeded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<Map<BatchNumber, Batch>> batchLoader = () -> {
+            loadCount.incrementAndGet();
+            return PARACETAMOL.getBatches();
+        };
+        Medicine medicine = Medicine.withBatchLoader(PARACETAMOL.getName(), PARACETAMOL.getCompany(),
+                PARACETAMOL.getTotalQuantity(), PARACETAMOL.getNextExpiry(), PARACETAMOL.getTags(), batchLoader);
+
+        assertFalse(medicine.isBatchesLoaded());
+        assertEquals(PARACETAMOL.getNextExpiry(), medicine.getNextExpiry());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(PARACETAMOL, medicine);
+        assertTrue(medicine.isBatchesLoaded());
+        medicine.getBatchesByExpiry();
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void withoutBatch() {
+        Batch existingBatch = PARACETAMOL.getBatches().values().iterator().next();
+
+        // batch not in medicine -> returns same medicine
+        assertSame(PARACETAMOL, PARACETAMOL.withoutBatch(new BatchNumber("A1")));
+
+        // only batch removed -> no quantity and no expiry
+        Medicine updatedParacetamol = PARACETAMOL.withoutBatch(existingBatch.getBatchNumber());
+        assertEquals("0", updatedParacetamol.getTotalQuantity().toString());
+        assertEquals(new Expiry("-"), updatedParacetamol.getNextExpiry());
+        assertTrue(updatedParacetamol.getBatches().isEmpty());
+
+        // batch with next expiry removed -> next expiry taken from remaining batches
+        Batch laterBatch = new Batch(new BatchNumber("A1"), new Quantity("8"), new Expiry("01/01/2021"));
+        updatedParacetamol = PARACETAMOL.withBatch(laterBatch).withoutBatch(existingBatch.getBatchNumber());
+        assertEquals("8", updatedParacetamol.getTotalQuantity().toString());
+        assertEquals(laterBatch.getExpiry(), updatedParacetamol.getNextExpiry());
+    }
+
+    @Test
+    public void getBatchesExpiringBy_returnsBatchesUpToDateInExpiryOrder() {
+        Batch firstBatch = new Batch(new BatchNumber("B"), new Quantity("1"), new Expiry("01/01/2019"));
+        Batch secondBatch = new Batch(new BatchNumber("C"), new Quantity("1"), new Expiry("01/02/2019"));
+        Batch secondBatchSameExpiry = new Batch(new BatchNumber("D"), new Quantity("1"), new Expiry("01/02/2019"));
+        Batch laterBatch = new Batch(new BatchNumber("A"), new Quantity("1"), new Expiry("01/03/2019"));
+        Medicine medicine = new MedicineBuilder().withQuantity("0").build()
+                .withBatch(laterBatch).withBatch(secondBatchSameExpiry).withBatch(firstBatch).withBatch(secondBatch);
+
+        assertEquals(Arrays.asList(firstBatch, secondBatch, secondBatchSameExpiry),
+                medicine.getBatchesExpiringBy(LocalDate.of(2019, 2, 1)));
+        assertEquals(Collections.emptyList(), medicine.getBatchesExpiringBy(LocalDate.of(2018, 12, 31)));
+
+        List<Batch> batchesByExpiry = new ArrayList<>();
+        medicine.getBatchesByExpiry().forEach(batchesByExpiry::add);
+        assertEquals(Arrays.asList(firstBatch, secondBatch, secondBatchSameExpiry, laterBatch), batchesByExpiry);
+    }
+
     @Test
     public void isSameMedicine() {
         // same object -> returns true
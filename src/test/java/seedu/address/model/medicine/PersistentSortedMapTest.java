@@ -0,0 +1,103 @@
+package seedu.address.model.medicine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentSortedMapTest {
+    private static final Comparator<Integer> ORDER = Comparator.naturalOrder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void put_existingMap_leavesExistingMapUnchanged() {
+        PersistentSortedMap<Integer, String> original = PersistentSortedMap.<Integer, String>empty(ORDER)
+                .put(1, "one");
+        PersistentSortedMap<Integer, String> updated = original.put(2, "two").put(1, "uno");
+
+        assertEquals(Collections.singletonMap(1, "one"), original.asMap());
+        assertEquals("uno", updated.get(1));
+        assertEquals("two", updated.get(2));
+        assertEquals(2, updated.size());
+    }
+
+    @Test
+    public void remove() {
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.<Integer, String>empty(ORDER)
+                .put(1, "one").put(2, "two");
+
+        // key not in map -> returns same map
+        assertSame(map, map.remove(3));
+
+        // key in map -> removed only from returned map
+        PersistentSortedMap<Integer, String> updated = map.remove(1);
+        assertFalse(updated.containsKey(1));
+        assertTrue(map.containsKey(1));
+        assertEquals("two", updated.firstValue());
+    }
+
+    @Test
+    public void randomOperations_sameAsTreeMap() {
+        Random random = new Random(0);
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        PersistentSortedMap<Integer, Integer> actual = PersistentSortedMap.empty(ORDER);
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextBoolean()) {
+                expected.put(key, i);
+                actual = actual.put(key, i);
+            } else {
+                expected.remove(key);
+                actual = actual.remove(key);
+            }
+        }
+
+        assertEquals(expected, actual.asMap());
+        assertEquals(new ArrayList<>(expected.values()), toList(actual.values()));
+        assertEquals(expected.firstEntry().getValue(), actual.firstValue());
+    }
+
+    @Test
+    public void copyOf_viewOfMapWithSameOrder_reusesMap() {
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.<Integer, String>empty(ORDER).put(1, "one");
+        assertSame(map, PersistentSortedMap.copyOf(ORDER, map.asMap()));
+
+        Map<Integer, String> source = new TreeMap<>(Collections.singletonMap(1, "one"));
+        assertEquals(source, PersistentSortedMap.copyOf(ORDER, source).asMap());
+    }
+
+    @Test
+    public void asMap_unknownKey_returnsNull() {
+        Map<Integer, String> map = PersistentSortedMap.<Integer, String>empty(ORDER).put(1, "one").asMap();
+        assertNull(map.get("one"));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    public void asMap_modifyMap_throwsUnsupportedOperationException() {
+        Map<Integer, String> map = PersistentSortedMap.<Integer, String>empty(ORDER).put(1, "one").asMap();
+        thrown.expect(UnsupportedOperationException.class);
+        map.remove(1);
+    }
+
+    private static <T> List<T> toList(Iterable<T> iterable) {
+        List<T> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+}
@@ -52,6 +52,21 @@ public class UniqueMedicineListTest {
         assertTrue(uniqueMedicineList.contains(editedParacetamol));
     }
 
+    @Test
+    public void contains_medicineRemovedFromList_returnsFalse() {
+        uniqueMedicineList.add(PARACETAMOL);
+        uniqueMedicineList.remove(PARACETAMOL);
+        assertFalse(uniqueMedicineList.contains(PARACETAMOL));
+    }
+
+    @Test
+    public void contains_medicineReplacedWithDifferentIdentity_returnsFalse() {
+        uniqueMedicineList.add(PARACETAMOL);
+        uniqueMedicineList.setMedicine(PARACETAMOL, GABAPENTIN);
+        assertFalse(uniqueMedicineList.contains(PARACETAMOL));
+        assertTrue(uniqueMedicineList.contains(GABAPENTIN));
+    }
+
     @Test
     public void add_nullMedicine_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -132,6 +147,14 @@ public class UniqueMedicineListTest {
         uniqueMedicineList.remove(PARACETAMOL);
     }
 
+    @Test
+    public void remove_medicineWithSameIdentityButDifferentFields_throwsMedicineNotFoundException() {
+        uniqueMedicineList.add(PARACETAMOL);
+        Medicine editedParacetamol = new MedicineBuilder(PARACETAMOL).withTags(VALID_TAG_PAINKILLER).build();
+        thrown.expect(MedicineNotFoundException.class);
+        uniqueMedicineList.remove(editedParacetamol);
+    }
+
     @Test
     public void remove_existingMedicine_removesMedicine() {
         uniqueMedicineList.add(PARACETAMOL);
@@ -178,6 +201,50 @@ public class UniqueMedicineListTest {
         uniqueMedicineList.setMedicines(listWithDuplicateMedicines);
     }
 
+    @Test
+    public void setMedicines_listWithDuplicateMedicines_reportsEveryDuplicate() {
+        Medicine editedParacetamol = new MedicineBuilder(PARACETAMOL).withTags(VALID_TAG_PAINKILLER).build();
+        List<Medicine> listWithDuplicateMedicines = Arrays.asList(PARACETAMOL, GABAPENTIN, editedParacetamol,
+                GABAPENTIN);
+        try {
+            uniqueMedicineList.setMedicines(listWithDuplicateMedicines);
+            throw new AssertionError("The expected DuplicateMedicineException was not thrown.");
+        } catch (DuplicateMedicineException dme) {
+            assertEquals(Arrays.asList(editedParacetamol, GABAPENTIN), dme.getDuplicates());
+        }
+        assertEquals(new UniqueMedicineList(), uniqueMedicineList);
+    }
+
+    @Test
+    public void replaceMedicines_removedMedicinesNotAtIndex_throwsMedicineNotFoundException() {
+        uniqueMedicineList.add(PARACETAMOL);
+        uniqueMedicineList.add(GABAPENTIN);
+        thrown.expect(MedicineNotFoundException.class);
+        uniqueMedicineList.replaceMedicines(0, Collections.singletonList(GABAPENTIN), Collections.emptyList());
+    }
+
+    @Test
+    public void replaceMedicines_addedMedicineAlreadyInList_throwsDuplicateMedicineException() {
+        uniqueMedicineList.add(PARACETAMOL);
+        uniqueMedicineList.add(GABAPENTIN);
+        thrown.expect(DuplicateMedicineException.class);
+        uniqueMedicineList.replaceMedicines(1, Collections.emptyList(), Collections.singletonList(PARACETAMOL));
+    }
+
+    @Test
+    public void replaceMedicines_validRange_replacesRange() {
+        uniqueMedicineList.add(PARACETAMOL);
+        uniqueMedicineList.add(GABAPENTIN);
+        Medicine editedParacetamol = new MedicineBuilder(PARACETAMOL).withTags(VALID_TAG_PAINKILLER).build();
+        uniqueMedicineList.replaceMedicines(0, Collections.singletonList(PARACETAMOL),
+                Collections.singletonList(editedParacetamol));
+        assertEquals(Arrays.asList(editedParacetamol, GABAPENTIN), uniqueMedicineList.asUnmodifiableObservableList());
+
+        uniqueMedicineList.replaceMedicines(0, Arrays.asList(editedParacetamol, GABAPENTIN), Collections.emptyList());
+        assertFalse(uniqueMedicineList.contains(PARACETAMOL));
+        assertFalse(uniqueMedicineList.contains(GABAPENTIN));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Inventory;
+import seedu.address.model.medicine.Medicine;
+
+public class BinaryInventoryFileTest {
+
+    /** The position of the table of names, after the magic number, version, journal sequence and two counts. */
+    private static final int NAME_TABLE_POSITION = 4 * Integer.BYTES + Long.BYTES;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_writtenInventory_medicinesAndJournalSequenceRead() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        Inventory inventory = getTypicalInventory();
+        BinaryInventoryFile.write(filePath, inventory.getMedicineList(), 42);
+
+        List<Medicine> medicines = new ArrayList<>();
+        assertEquals(42, BinaryInventoryFile.read(filePath, medicines));
+        assertEquals(inventory.getMedicineList(), medicines);
+    }
+
+    @Test
+    public void read_lazyBatchLoading_batchesLoadedWhenFirstNeeded() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        Inventory inventory = getTypicalInventory();
+        BinaryInventoryFile.write(filePath, inventory.getMedicineList(), 0);
+
+        List<Medicine> medicines = new ArrayList<>();
+        BinaryInventoryFile.readLazily(new BinaryInventoryFile.LazyBatchReader(filePath), medicines);
+        assertFalse(medicines.stream().anyMatch(Medicine::isBatchesLoaded));
+        assertEquals(inventory.getMedicineList(), medicines);
+    }
+
+    @Test
+    public void read_lazyBatchLoadingDetached_batchesLoadedAfterFileDeleted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        Inventory inventory = getTypicalInventory();
+        BinaryInventoryFile.write(filePath, inventory.getMedicineList(), 0);
+
+        List<Medicine> medicines = new ArrayList<>();
+        BinaryInventoryFile.LazyBatchReader batchReader = new BinaryInventoryFile.LazyBatchReader(filePath);
+        BinaryInventoryFile.readLazily(batchReader, medicines);
+        medicines.get(0).getBatches();
+        batchReader.detach();
+        Files.delete(filePath);
+        assertEquals(inventory.getMedicineList(), medicines);
+    }
+
+    @Test
+    public void isBinaryInventoryFile() throws Exception {
+        Path binaryFile = testFolder.getRoot().toPath().resolve("inventory.bin");
+        BinaryInventoryFile.write(binaryFile, Collections.emptyList(), 0);
+        assertTrue(BinaryInventoryFile.isBinaryInventoryFile(binaryFile));
+
+        Path jsonFile = testFolder.getRoot().toPath().resolve("inventory.json");
+        Files.write(jsonFile, "{\"medicines\": []}".getBytes(StandardCharsets.UTF_8));
+        assertFalse(BinaryInventoryFile.isBinaryInventoryFile(jsonFile));
+
+        Path shortFile = testFolder.getRoot().toPath().resolve("short.bin");
+        Files.write(shortFile, new byte[] {0x4D, 0x54});
+        assertFalse(BinaryInventoryFile.isBinaryInventoryFile(shortFile));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        Files.write(filePath, ByteBuffer.allocate(8).putInt(BinaryInventoryFile.MAGIC).putInt(99).array());
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(BinaryInventoryFile.MESSAGE_UNSUPPORTED_VERSION, 99));
+        BinaryInventoryFile.read(filePath, new ArrayList<>());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        BinaryInventoryFile.write(filePath, getTypicalInventory().getMedicineList(), 0);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(BinaryInventoryFile.MESSAGE_CORRUPTED);
+        BinaryInventoryFile.read(filePath, new ArrayList<>());
+    }
+
+    @Test
+    public void read_lazyBatchLoadingTruncatedBatchRecords_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        BinaryInventoryFile.write(filePath, getTypicalInventory().getMedicineList(), 0);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(BinaryInventoryFile.MESSAGE_CORRUPTED);
+        BinaryInventoryFile.readLazily(new BinaryInventoryFile.LazyBatchReader(filePath), new ArrayList<>());
+    }
+
+    @Test
+    public void read_invalidStringTableCount_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        for (int count : new int[] {-1, Integer.MAX_VALUE}) {
+            writeWithStringTableInt(filePath, 0, count);
+            assertCorrupted(filePath);
+        }
+    }
+
+    @Test
+    public void read_invalidStringLength_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        for (int length : new int[] {-1, Integer.MAX_VALUE}) {
+            writeWithStringTableInt(filePath, 1, length);
+            assertCorrupted(filePath);
+        }
+    }
+
+    @Test
+    public void read_invalidBatchRecord_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        writeWithInvalidLastBatchRecord(filePath);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(BinaryInventoryFile.MESSAGE_CORRUPTED);
+        BinaryInventoryFile.read(filePath, new ArrayList<>());
+    }
+
+    @Test
+    public void read_lazyBatchLoadingInvalidBatchRecord_throwsIllegalStateExceptionWhenLoaded() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.bin");
+        writeWithInvalidLastBatchRecord(filePath);
+        List<Medicine> medicines = new ArrayList<>();
+        BinaryInventoryFile.readLazily(new BinaryInventoryFile.LazyBatchReader(filePath), medicines);
+        medicines.get(0).getBatches();
+
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage(BinaryInventoryFile.MESSAGE_CORRUPTED);
+        medicines.get(medicines.size() - 1).getBatches();
+    }
+
+    /**
+     * Writes the typical inventory to {@code filePath} with the integer at {@code index} in its table of names,
+     * which starts with the number of names and the length of the first name, replaced by {@code value}.
+     */
+    private void writeWithStringTableInt(Path filePath, int index, int value) throws Exception {
+        BinaryInventoryFile.write(filePath, getTypicalInventory().getMedicineList(), 0);
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(NAME_TABLE_POSITION + index * Integer.BYTES, value);
+        Files.write(filePath, bytes);
+    }
+
+    /**
+     * Asserts that reading the file at {@code filePath} fails because it is corrupted.
+     */
+    private void assertCorrupted(Path filePath) throws Exception {
+        try {
+            BinaryInventoryFile.read(filePath, new ArrayList<>());
+            fail();
+        } catch (IllegalValueException ive) {
+            assertEquals(BinaryInventoryFile.MESSAGE_CORRUPTED, ive.getMessage());
+        }
+    }
+
+    /**
+     * Writes the typical inventory to {@code filePath} with the quantity of its last batch record made negative.
+     */
+    private void writeWithInvalidLastBatchRecord(Path filePath) throws Exception {
+        List<Medicine> medicines = getTypicalInventory().getMedicineList();
+        assertFalse(medicines.get(medicines.size() - 1).getBatches().isEmpty());
+        BinaryInventoryFile.write(filePath, medicines, 0);
+        // the file ends with the last batch record, whose quantity is made negative
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - 2 * Integer.BYTES, -1);
+        Files.write(filePath, bytes);
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.opencsv.CSVReader;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.Assert;
+import seedu.address.testutil.MedicineBuilder;
+
+public class InventoryExporterTest {
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final Model model = new ModelManager(getTypicalInventory(), new UserPrefs());
+    private String fileName;
+    private Path exportFilePath;
+
+    @Before
+    public void setUp() throws Exception {
+        Path exportDirectoryPath = Paths.get("exported");
+        if (Files.isDirectory(exportDirectoryPath) == false) {
+            Files.createDirectory(exportDirectoryPath);
+        }
+        File tempFile = File.createTempFile("tmp", ".tmp", exportDirectoryPath.toFile());
+        fileName = FilenameUtils.removeExtension(tempFile.getName());
+        tempFile.delete();
+
+        // The whole inventory is exported regardless of the current list.
+        model.updateFilteredMedicineList(new NameContainsKeywordsPredicate(Collections.singletonList("nothing")));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (exportFilePath != null) {
+            Files.deleteIfExists(exportFilePath);
+        }
+    }
+
+    @Test
+    public void constructor_uncompressedCsv_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                new InventoryExporter(fileName, ExportFormat.CSV, model));
+    }
+
+    @Test
+    public void writeData_csvGzip_writesEveryBatch() throws Exception {
+        Medicine quotedMedicine = new MedicineBuilder().withName("Quoted").withCompany("Pfizer \"Labs\", Inc.")
+                .withQuantity("20").withExpiry("01/01/2030").withTags("fever", "cold")
+                .withBatches("A1", "20", "01/01/2030").build();
+        model.addMedicine(quotedMedicine);
+        InventoryExporter exporter = createFile(ExportFormat.CSV_GZIP);
+        assertEquals(fileName + ".csv.gz", exporter.getExportedFileName());
+        assertTrue(exporter.writeData(rowsWritten -> true));
+
+        try (CSVReader reader = new CSVReader(openGzip())) {
+            assertArrayEquals(new String[] {"Name", "Batch Number", "Quantity", "Expiry Date", "Company", "Tags"},
+                    reader.readNext());
+            for (Medicine medicine : model.getInventory().getMedicineList()) {
+                for (Batch batch : medicine.getBatches().values()) {
+                    assertArrayEquals(new String[] {medicine.getName().fullName, batch.getBatchNumber().batchNumber,
+                        batch.getQuantity().toString(), batch.getExpiry().toString(),
+                        medicine.getCompany().companyName, joinTags(medicine)}, reader.readNext());
+                }
+            }
+            assertNull(reader.readNext());
+        }
+    }
+
+    @Test
+    public void writeData_jsonLinesGzip_writesEveryMedicine() throws Exception {
+        InventoryExporter exporter = createFile(ExportFormat.JSONL_GZIP);
+        assertTrue(exporter.writeData(rowsWritten -> true));
+
+        List<String> lines;
+        try (Reader reader = openGzip()) {
+            lines = IOUtils.readLines(reader);
+        }
+        assertEquals(model.getInventory().getMedicineList().size(), lines.size());
+
+        // each line is a medicine in the format of the inventory data file
+        Path inventoryFile = testFolder.getRoot().toPath().resolve("inventory.json");
+        Files.write(inventoryFile, Collections.singletonList("{\"medicines\":[" + String.join(",", lines) + "]}"));
+        ReadOnlyInventory readBack = new JsonInventoryStorage(inventoryFile).readInventory().get();
+        assertEquals(model.getInventory().getMedicineList(), readBack.getMedicineList());
+    }
+
+    @Test
+    public void writeData_stopped_returnsFalse() throws Exception {
+        InventoryExporter exporter = createFile(ExportFormat.JSONL_GZIP);
+        assertFalse(exporter.writeData(rowsWritten -> rowsWritten < 2));
+
+        exporter.doCleanUp();
+        assertFalse(Files.exists(exportFilePath));
+    }
+
+    /**
+     * Returns an exporter of the inventory of the model in {@code format} that has created its file.
+     */
+    private InventoryExporter createFile(ExportFormat format) throws Exception {
+        InventoryExporter exporter = new InventoryExporter(fileName, format, model);
+        exporter.createFile();
+        exportFilePath = Paths.get("exported", exporter.getExportedFileName());
+        return exporter;
+    }
+
+    /**
+     * Returns a reader of the decompressed contents of the exported file.
+     */
+    private Reader openGzip() throws IOException {
+        return new InputStreamReader(new GZIPInputStream(Files.newInputStream(exportFilePath)),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the names of the tags of {@code medicine}, separated by spaces.
+     */
+    private static String joinTags(Medicine medicine) {
+        StringJoiner tags = new StringJoiner(" ");
+        for (Tag tag : medicine.getTags()) {
+            tags.add(tag.tagName);
+        }
+        return tags.toString();
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMedicines.AMOXICILLIN;
+import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.Inventory;
+import seedu.address.model.medicine.Batch;
+import seedu.address.model.medicine.BatchNumber;
+import seedu.address.model.medicine.Expiry;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.medicine.Quantity;
+import seedu.address.testutil.MedicineBuilder;
+
+public class JournalInventoryStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readInventory_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalInventoryStorage(getTempFilePath()).readInventory().isPresent());
+    }
+
+    @Test
+    public void saveInventory_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = getTempFilePath();
+        JournalInventoryStorage storage = createStorageWithoutCompaction(filePath);
+        Inventory inventory = getTypicalInventory();
+        storage.saveInventory(inventory);
+
+        // edit, add and remove
+        Medicine firstMedicine = inventory.getMedicineList().get(0);
+        inventory.setMedicine(firstMedicine, new MedicineBuilder(firstMedicine).withName("Renamed").build());
+        inventory.addMedicine(AMOXICILLIN);
+        storage.saveInventory(inventory);
+        inventory.removeMedicine(PARACETAMOL);
+        storage.saveInventory(inventory);
+
+        assertEquals(2, Files.readAllLines(JournalInventoryStorage.getJournalPath(filePath)).size());
+        List<Medicine> snapshotMedicines = new ArrayList<>();
+        BinaryInventoryFile.read(filePath, snapshotMedicines);
+        assertEquals(getTypicalInventory().getMedicineList(), snapshotMedicines);
+        assertEquals(inventory, createStorageWithoutCompaction(filePath).readInventory().get());
+    }
+
+    @Test
+    public void readInventory_lazyBatchLoading_changesSavedAndReadBack() throws Exception {
+        Path filePath = getTempFilePath();
+        createStorageWithoutCompaction(filePath).saveInventory(getTypicalInventory());
+
+        JournalInventoryStorage storage = new JournalInventoryStorage(filePath, Long.MAX_VALUE,
+                Duration.ofDays(1), true);
+        Inventory inventory = new Inventory(storage.readInventory().get());
+        assertFalse(inventory.getMedicineList().get(0).isBatchesLoaded());
+        Medicine firstMedicine = inventory.getMedicineList().get(0);
+        Batch batch = new Batch(new BatchNumber("NEW1"), new Quantity("3"), new Expiry("01/01/2030"));
+        inventory.upsertBatch(firstMedicine, batch);
+        storage.saveInventory(inventory);
+
+        assertEquals(inventory, createStorageWithoutCompaction(filePath).readInventory().get());
+    }
+
+    @Test
+    public void readInventory_lazyBatchLoadingSnapshotCompacted_unloadedBatchesReadFromOldSnapshot()
+            throws Exception {
+        Path filePath = getTempFilePath();
+        Inventory original = getTypicalInventory();
+        createStorageWithoutCompaction(filePath).saveInventory(original);
+
+        JournalInventoryStorage storage = new JournalInventoryStorage(filePath, 0, Duration.ofDays(1), true);
+        Inventory inventory = new Inventory(storage.readInventory().get());
+        Medicine removedMedicine = inventory.getMedicineList().get(0);
+        inventory.removeMedicine(removedMedicine);
+        inventory.addMedicine(AMOXICILLIN);
+        storage.saveInventory(inventory);
+        storage.awaitCompaction();
+
+        assertFalse(removedMedicine.isBatchesLoaded());
+        assertEquals(original.getMedicineList().get(0).getBatches(), removedMedicine.getBatches());
+        assertEquals(inventory, createStorageWithoutCompaction(filePath).readInventory().get());
+    }
+
+    @Test
+    public void readInventory_jsonSnapshot_importedAndCompactedIntoBinarySnapshot() throws Exception {
+        Path filePath = getTempFilePath();
+        Inventory inventory = getTypicalInventory();
+        new JsonInventoryStorage(filePath).saveInventory(inventory);
+
+        JournalInventoryStorage storage = new JournalInventoryStorage(filePath, 0, Duration.ofDays(1));
+        assertEquals(inventory, storage.readInventory().get());
+        inventory.addMedicine(AMOXICILLIN);
+        storage.saveInventory(inventory);
+        storage.awaitCompaction();
+
+        assertTrue(BinaryInventoryFile.isBinaryInventoryFile(filePath));
+        assertEquals(inventory, createStorageWithoutCompaction(filePath).readInventory().get());
+    }
+
+    @Test
+    public void saveInventory_journalPastSizeLimit_compactedIntoSnapshot() throws Exception {
+        Path filePath = getTempFilePath();
+        JournalInventoryStorage storage = new JournalInventoryStorage(filePath, 0, Duration.ofDays(1));
+        Inventory inventory = getTypicalInventory();
+        storage.saveInventory(inventory);
+        inventory.addMedicine(AMOXICILLIN);
+        storage.saveInventory(inventory);
+        storage.awaitCompaction();
+
+        assertEquals(0, Files.size(JournalInventoryStorage.getJournalPath(filePath)));
+        assertTrue(BinaryInventoryFile.isBinaryInventoryFile(filePath));
+        assertEquals(inventory, createStorageWithoutCompaction(filePath).readInventory().get());
+    }
+
+    @Test
+    public void readInventory_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = getTempFilePath();
+        JournalInventoryStorage storage = createStorageWithoutCompaction(filePath);
+        Inventory inventory = getTypicalInventory();
+        storage.saveInventory(inventory);
+        inventory.addMedicine(AMOXICILLIN);
+        storage.saveInventory(inventory);
+        Files.write(JournalInventoryStorage.getJournalPath(filePath), "{\"sequence\":2,\"fr".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(inventory, createStorageWithoutCompaction(filePath).readInventory().get());
+    }
+
+    @Test
+    public void readInventory_recordsAlreadyInSnapshot_notReplayed() throws Exception {
+        Path filePath = getTempFilePath();
+        JournalInventoryStorage storage = createStorageWithoutCompaction(filePath);
+        Inventory inventory = getTypicalInventory();
+        storage.saveInventory(inventory);
+        inventory.addMedicine(AMOXICILLIN);
+        storage.saveInventory(inventory);
+
+        // a compaction that wrote its snapshot but did not get to drop the records from the journal
+        BinaryInventoryFile.write(filePath, inventory.getMedicineList(), 1);
+
+        assertEquals(inventory, createStorageWithoutCompaction(filePath).readInventory().get());
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("inventory.json");
+    }
+
+    private JournalInventoryStorage createStorageWithoutCompaction(Path filePath) {
+        return new JournalInventoryStorage(filePath, Long.MAX_VALUE, Duration.ofDays(1));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.storage.JsonAdaptedMedicine.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalMedicines.IBUPROFEN;
+import static seedu.address.testutil.TypicalMedicines.getTypicalMedicines;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +14,7 @@ import org.junit.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.medicine.Company;
 import seedu.address.model.medicine.Expiry;
+import seedu.address.model.medicine.Medicine;
 import seedu.address.model.medicine.Name;
 import seedu.address.model.medicine.Quantity;
 import seedu.address.testutil.Assert;
@@ -131,4 +133,45 @@ public class JsonAdaptedMedicineTest {
         Assert.assertThrows(IllegalValueException.class, medicine::toModelType);
     }
 
+
+    @Test
+    public void toModelTypes_validMedicines_returnsMedicinesInOrder() throws Exception {
+        List<Medicine> medicines = getTypicalMedicines();
+        List<JsonAdaptedMedicine> adaptedMedicines = medicines.stream()
+                .map(JsonAdaptedMedicine::new)
+                .collect(Collectors.toList());
+        assertEquals(medicines, JsonAdaptedMedicine.toModelTypes(adaptedMedicines));
+    }
+
+    @Test
+    public void toModelTypes_severalInvalidMedicines_throwsExceptionOfFirst() {
+        List<JsonAdaptedMedicine> adaptedMedicines = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            adaptedMedicines.add(new JsonAdaptedMedicine(IBUPROFEN));
+        }
+        adaptedMedicines.set(40, new JsonAdaptedMedicine(VALID_NAME, INVALID_COMPANY, VALID_QUANTITY, VALID_EXPIRY,
+                VALID_TAGS, VALID_BATCHES));
+        adaptedMedicines.set(60, new JsonAdaptedMedicine(INVALID_NAME, VALID_COMPANY, VALID_QUANTITY, VALID_EXPIRY,
+                VALID_TAGS, VALID_BATCHES));
+        Assert.assertThrows(IllegalValueException.class, Company.MESSAGE_CONSTRAINTS, () ->
+                JsonAdaptedMedicine.toModelTypes(adaptedMedicines));
+    }
+
+    @Test
+    public void toModelTypes_modelConstructorRejectsFirstInvalidMedicine_throwsIllegalArgumentExceptionOfFirst() {
+        List<JsonAdaptedTag> tooManyTags = new ArrayList<>();
+        for (int i = 0; i <= Medicine.MAX_SIZE_TAG; i++) {
+            tooManyTags.add(new JsonAdaptedTag("tag" + i));
+        }
+        List<JsonAdaptedMedicine> adaptedMedicines = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            adaptedMedicines.add(new JsonAdaptedMedicine(IBUPROFEN));
+        }
+        adaptedMedicines.set(40, new JsonAdaptedMedicine(VALID_NAME, VALID_COMPANY, VALID_QUANTITY, VALID_EXPIRY,
+                tooManyTags, VALID_BATCHES));
+        adaptedMedicines.set(60, new JsonAdaptedMedicine(INVALID_NAME, VALID_COMPANY, VALID_QUANTITY, VALID_EXPIRY,
+                VALID_TAGS, VALID_BATCHES));
+        Assert.assertThrows(IllegalArgumentException.class, Medicine.MESSAGE_CONSTRAINTS_TAGS, () ->
+                JsonAdaptedMedicine.toModelTypes(adaptedMedicines));
+    }
 }
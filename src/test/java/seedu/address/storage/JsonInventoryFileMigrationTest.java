@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalMedicines.AMOXICILLIN;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.Inventory;
+import seedu.address.model.UserPrefs;
+
+public class JsonInventoryFileMigrationTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void moveInventoryFilePath_jsonFilePath_replacedByBinaryFilePath() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setInventoryFilePath(Paths.get("data", "MediTabs.json"));
+
+        assertEquals(Optional.of(Paths.get("data", "MediTabs.json")),
+                JsonInventoryFileMigration.moveInventoryFilePath(userPrefs));
+        assertEquals(Paths.get("data", "MediTabs.bin"), userPrefs.getInventoryFilePath());
+    }
+
+    @Test
+    public void moveInventoryFilePath_binaryFilePath_unchanged() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setInventoryFilePath(Paths.get("data", "MediTabs.bin"));
+
+        assertFalse(JsonInventoryFileMigration.moveInventoryFilePath(userPrefs).isPresent());
+        assertEquals(Paths.get("data", "MediTabs.bin"), userPrefs.getInventoryFilePath());
+    }
+
+    @Test
+    public void readInventory_emptyStorageWithJsonFile_inventoryMovedToStorage() throws Exception {
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("MediTabs.json");
+        Path filePath = testFolder.getRoot().toPath().resolve("MediTabs.bin");
+        Inventory inventory = getTypicalInventory();
+        new JsonInventoryStorage(jsonFilePath).saveInventory(inventory);
+        byte[] jsonFile = Files.readAllBytes(jsonFilePath);
+
+        assertEquals(inventory, JsonInventoryFileMigration.readInventory(new JournalInventoryStorage(filePath),
+                jsonFilePath).get());
+        assertEquals(inventory, new JournalInventoryStorage(filePath).readInventory().get());
+        assertTrue(BinaryInventoryFile.isBinaryInventoryFile(filePath));
+        assertEquals(new String(jsonFile), new String(Files.readAllBytes(jsonFilePath)));
+    }
+
+    @Test
+    public void readInventory_storageWithInventory_jsonFileIgnored() throws Exception {
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("MediTabs.json");
+        Path filePath = testFolder.getRoot().toPath().resolve("MediTabs.bin");
+        new JsonInventoryStorage(jsonFilePath).saveInventory(getTypicalInventory());
+        Inventory inventory = new Inventory();
+        inventory.addMedicine(AMOXICILLIN);
+        new JournalInventoryStorage(filePath).saveInventory(inventory);
+
+        assertEquals(inventory, JsonInventoryFileMigration.readInventory(new JournalInventoryStorage(filePath),
+                jsonFilePath).get());
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.Inventory;
+
+public class JsonInventoryReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_writtenInventory_medicinesRead() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.json");
+        Inventory inventory = getTypicalInventory();
+        JsonUtil.saveJsonFile(new JsonSerializableInventory(inventory), filePath);
+
+        JsonInventoryReader reader = JsonInventoryReader.read(filePath);
+        assertEquals(inventory, reader.toInventory());
+        assertEquals(0, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_journalSnapshot_journalSequenceRead() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("snapshot.json");
+        Files.write(filePath, "{\"medicines\": [], \"journalSequence\": 7}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(7, JsonInventoryReader.read(filePath).getJournalSequence());
+    }
+
+    @Test
+    public void read_unknownFields_skipped() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.json");
+        Files.write(filePath, "{\"version\": {\"major\": 2}, \"tags\": [[1], {}], \"medicines\": []}".getBytes(
+                StandardCharsets.UTF_8));
+
+        assertEquals(new Inventory(), JsonInventoryReader.read(filePath).toInventory());
+    }
+
+    @Test
+    public void read_notJsonObject_throwsJsonParseException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("inventory.json");
+        Files.write(filePath, "[]".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(JsonParseException.class);
+        JsonInventoryReader.read(filePath);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalMedicines.AMOXICILLIN;
+import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.testutil.MedicineBuilder;
+
+public class JsonMedicineCacheTest {
+
+    @Test
+    public void toJson_sameMedicine_convertedOnce() throws Exception {
+        JsonMedicineCache cache = new JsonMedicineCache();
+        String json = cache.toJson(PARACETAMOL);
+
+        assertEquals(JsonUtil.toCompactJsonString(new JsonAdaptedMedicine(PARACETAMOL)), json);
+        assertSame(json, cache.toJson(PARACETAMOL));
+    }
+
+    @Test
+    public void toJson_equalMedicineObject_convertedAgain() throws Exception {
+        JsonMedicineCache cache = new JsonMedicineCache();
+        Medicine copy = new MedicineBuilder(PARACETAMOL).build();
+        String json = cache.toJson(PARACETAMOL);
+
+        assertNotSame(json, cache.toJson(copy));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void retainIfGrown() throws Exception {
+        JsonMedicineCache cache = new JsonMedicineCache();
+        cache.toJson(PARACETAMOL);
+        cache.toJson(AMOXICILLIN);
+
+        cache.retainIfGrown(Collections.singletonList(AMOXICILLIN));
+        assertEquals(2, cache.size());
+
+        Medicine copy = new MedicineBuilder(AMOXICILLIN).build();
+        cache.toJson(copy);
+        cache.retainIfGrown(Collections.singletonList(copy));
+        assertEquals(1, cache.size());
+        assertSame(cache.toJson(copy), cache.toJson(copy));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalMedicines.AMOXICILLIN;
+import static seedu.address.testutil.TypicalMedicines.getTypicalInventory;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Inventory;
+import seedu.address.model.ReadOnlyInventory;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.testutil.MedicineBuilder;
+
+public class ShardedInventoryStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_nonPositiveShardCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new ShardedInventoryStorage(getTempFilePath(), 0);
+    }
+
+    @Test
+    public void readInventory_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedInventoryStorage(getTempFilePath(), SHARD_COUNT).readInventory().isPresent());
+    }
+
+    @Test
+    public void readInventory_savedInventory_medicinesReadSorted() throws Exception {
+        Path filePath = getTempFilePath();
+        Inventory inventory = getTypicalInventory();
+        inventory.addMedicine(AMOXICILLIN);
+        new ShardedInventoryStorage(filePath, SHARD_COUNT).saveInventory(inventory);
+
+        assertEquals(sorted(inventory), new ShardedInventoryStorage(filePath, SHARD_COUNT).readInventory().get());
+    }
+
+    @Test
+    public void saveInventory_oneMedicineChanged_onlyItsShardRewritten() throws Exception {
+        Path filePath = getTempFilePath();
+        ShardedInventoryStorage storage = new ShardedInventoryStorage(filePath, SHARD_COUNT);
+        Inventory inventory = getTypicalInventory();
+        storage.saveInventory(inventory);
+        Set<Path> filesBefore = listShardFiles(filePath);
+
+        Medicine firstMedicine = inventory.getMedicineList().get(0);
+        inventory.setMedicine(firstMedicine, new MedicineBuilder(firstMedicine).withTags("changed").build());
+        storage.saveInventory(inventory);
+
+        Set<Path> filesAfter = listShardFiles(filePath);
+        Set<Path> removedFiles = new HashSet<>(filesBefore);
+        removedFiles.removeAll(filesAfter);
+        Set<Path> addedFiles = new HashSet<>(filesAfter);
+        addedFiles.removeAll(filesBefore);
+        assertEquals(SHARD_COUNT, filesAfter.size());
+        assertEquals(1, removedFiles.size());
+        assertEquals(1, addedFiles.size());
+        assertEquals(sorted(inventory), new ShardedInventoryStorage(filePath, SHARD_COUNT).readInventory().get());
+    }
+
+    @Test
+    public void saveInventory_afterRead_onlyChangedShardsRewritten() throws Exception {
+        Path filePath = getTempFilePath();
+        new ShardedInventoryStorage(filePath, SHARD_COUNT).saveInventory(getTypicalInventory());
+        Set<Path> filesBefore = listShardFiles(filePath);
+
+        ShardedInventoryStorage storage = new ShardedInventoryStorage(filePath, SHARD_COUNT);
+        Inventory inventory = new Inventory(storage.readInventory().get());
+        storage.saveInventory(inventory);
+        assertEquals(filesBefore, listShardFiles(filePath));
+
+        inventory.addMedicine(AMOXICILLIN);
+        storage.saveInventory(inventory);
+        Set<Path> unchangedFiles = new HashSet<>(filesBefore);
+        unchangedFiles.retainAll(listShardFiles(filePath));
+        assertEquals(SHARD_COUNT - 1, unchangedFiles.size());
+    }
+
+    @Test
+    public void saveInventory_differentShardCount_inventoryShardedAgain() throws Exception {
+        Path filePath = getTempFilePath();
+        Inventory inventory = getTypicalInventory();
+        new ShardedInventoryStorage(filePath, SHARD_COUNT).saveInventory(inventory);
+
+        ShardedInventoryStorage storage = new ShardedInventoryStorage(filePath, 2);
+        ReadOnlyInventory readBack = storage.readInventory().get();
+        assertEquals(sorted(inventory), readBack);
+        storage.saveInventory(readBack);
+
+        assertEquals(2, listShardFiles(filePath).size());
+        assertEquals(sorted(inventory), new ShardedInventoryStorage(filePath, 2).readInventory().get());
+    }
+
+    @Test
+    public void readInventory_corruptedIndex_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath();
+        Files.write(filePath, new byte[] {1, 2, 3});
+
+        thrown.expect(DataConversionException.class);
+        new ShardedInventoryStorage(filePath, SHARD_COUNT).readInventory();
+    }
+
+    private Path getTempFilePath() {
+        return testFolder.getRoot().toPath().resolve("inventory.bin");
+    }
+
+    /**
+     * Returns the files in the shard directory of the index file at {@code filePath}.
+     */
+    private static Set<Path> listShardFiles(Path filePath) throws Exception {
+        Set<Path> files = new HashSet<>();
+        try (DirectoryStream<Path> shardFiles =
+                Files.newDirectoryStream(ShardedInventoryStorage.getShardDirectory(filePath))) {
+            shardFiles.forEach(files::add);
+        }
+        return files;
+    }
+
+    /**
+     * Returns an inventory with the medicines in {@code inventory} sorted by name and company.
+     */
+    private static Inventory sorted(Inventory inventory) {
+        List<Medicine> medicines = new ArrayList<>(inventory.getMedicineList());
+        medicines.sort(null);
+        Inventory sortedInventory = new Inventory();
+        sortedInventory.setMedicines(medicines);
+        return sortedInventory;
+    }
+}
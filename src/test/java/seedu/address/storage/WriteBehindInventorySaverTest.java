@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalMedicines.GABAPENTIN;
+import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.Inventory;
+import seedu.address.model.ReadOnlyInventory;
+
+public class WriteBehindInventorySaverTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<InventorySaveStatus> statuses = new ArrayList<>();
+
+    @Test
+    public void requestSave_burstWhileWriting_coalescedIntoOneSave() throws Exception {
+        InventoryStorageStub storage = new InventoryStorageStub();
+        WriteBehindInventorySaver saver = new WriteBehindInventorySaver(storage, this::recordStatus);
+        Inventory inventory = new Inventory();
+
+        saver.requestSave(inventory);
+        storage.firstSaveStarted.await();
+        inventory.addMedicine(PARACETAMOL);
+        saver.requestSave(inventory);
+        inventory.addMedicine(GABAPENTIN);
+        saver.requestSave(inventory);
+        storage.firstSaveReleased.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.savedInventories.size());
+        assertEquals(0, storage.savedInventories.get(0).getMedicineList().size());
+        assertEquals(inventory.getMedicineList(), storage.savedInventories.get(1).getMedicineList());
+        assertEquals(InventorySaveStatus.SAVED, getLastStatus());
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_throwsIoExceptionAfterRetry() throws Exception {
+        IOException failure = new IOException("dummy exception");
+        InventoryStorageStub storage = new InventoryStorageStub(failure);
+        storage.firstSaveReleased.countDown();
+        WriteBehindInventorySaver saver = new WriteBehindInventorySaver(storage, this::recordStatus);
+
+        saver.requestSave(new Inventory());
+        thrown.expect(IOException.class);
+        try {
+            saver.flush();
+        } finally {
+            assertEquals(2, storage.saveAttempts);
+            assertEquals(InventorySaveStatus.failed(failure), getLastStatus());
+        }
+    }
+
+    private synchronized void recordStatus(InventorySaveStatus status) {
+        statuses.add(status);
+    }
+
+    private synchronized InventorySaveStatus getLastStatus() {
+        return statuses.get(statuses.size() - 1);
+    }
+
+    /**
+     * A stub that records the inventories saved, holding up the first save until it is released.
+     */
+    private static class InventoryStorageStub implements InventoryStorage {
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        private final List<ReadOnlyInventory> savedInventories = new ArrayList<>();
+        private final IOException failure;
+        private int saveAttempts;
+
+        InventoryStorageStub() {
+            this(null);
+        }
+
+        InventoryStorageStub(IOException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public Path getInventoryFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyInventory> readInventory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyInventory> readInventory(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveInventory(ReadOnlyInventory inventory) throws IOException {
+            saveAttempts++;
+            firstSaveStarted.countDown();
+            try {
+                firstSaveReleased.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            savedInventories.add(inventory);
+        }
+
+        @Override
+        public void saveInventory(ReadOnlyInventory inventory, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
-import static seedu.address.testutil.TypicalMedicines.PARACETAMOL;
+import static seedu.address.ui.StatusBarFooter.EXPORT_STATUS_CANCELLED;
+import static seedu.address.ui.StatusBarFooter.EXPORT_STATUS_COMPLETED;
+import static seedu.address.ui.StatusBarFooter.EXPORT_STATUS_RUNNING;
+import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_FAILED;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
+import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_SAVING;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
+import java.io.IOException;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -18,7 +25,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
-import seedu.address.model.Inventory;
+import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.commons.util.csv.ExportStatus;
+import seedu.address.storage.InventorySaveStatus;
 
 public class StatusBarFooterTest extends GuiUnitTest {
 
@@ -29,7 +38,8 @@ public class StatusBarFooterTest extends GuiUnitTest {
     private static final Clock injectedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
 
     private StatusBarFooterHandle statusBarFooterHandle;
-    private final Inventory inventory = new Inventory();
+    private final SimpleObjectProperty<InventorySaveStatus> inventorySaveStatus = new SimpleObjectProperty<>();
+    private final SimpleObjectProperty<ExportStatus> exportStatus = new SimpleObjectProperty<>();
 
     @BeforeClass
     public static void setUpBeforeClass() {
@@ -45,7 +55,7 @@ public class StatusBarFooterTest extends GuiUnitTest {
 
     @Before
     public void setUp() {
-        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, inventory);
+        StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, inventorySaveStatus, exportStatus);
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());
@@ -56,10 +66,40 @@ public class StatusBarFooterTest extends GuiUnitTest {
         // initial state
         assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_INITIAL);
 
-        // after inventory is updated
-        guiRobot.interact(() -> inventory.addMedicine(PARACETAMOL));
+        // while inventory is being saved
+        guiRobot.interact(() -> inventorySaveStatus.set(InventorySaveStatus.SAVING));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(), SYNC_STATUS_SAVING);
+
+        // after inventory is saved
+        guiRobot.interact(() -> inventorySaveStatus.set(InventorySaveStatus.SAVED));
         assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
+
+        // after inventory fails to save
+        IOException failure = new IOException("dummy exception");
+        guiRobot.interact(() -> inventorySaveStatus.set(InventorySaveStatus.failed(failure)));
+        assertStatusBarContent(RELATIVE_PATH.resolve(STUB_SAVE_LOCATION).toString(),
+                String.format(SYNC_STATUS_FAILED, failure));
+    }
+
+    @Test
+    public void displayExportStatus() {
+        long oneSecond = TimeUnit.SECONDS.toNanos(1);
+
+        // while export is running
+        guiRobot.interact(() -> exportStatus.set(ExportStatus.running("records.csv", "rows", 2000, oneSecond)));
+        assertEquals(String.format(EXPORT_STATUS_RUNNING, "records.csv", 2000, 2000, "rows"),
+                statusBarFooterHandle.getExportStatus());
+
+        // after export is completed
+        guiRobot.interact(() -> exportStatus.set(
+                ExportStatus.completed("labels.pdf", "labels", 3000, 2 * oneSecond)));
+        assertEquals(String.format(EXPORT_STATUS_COMPLETED, "labels.pdf", 3000, 1500, "labels"),
+                statusBarFooterHandle.getExportStatus());
+
+        // after export is cancelled
+        guiRobot.interact(() -> exportStatus.set(ExportStatus.cancelled("records.csv", "rows", 1000, oneSecond)));
+        assertEquals(String.format(EXPORT_STATUS_CANCELLED, "records.csv"), statusBarFooterHandle.getExportStatus());
     }
 
     /**
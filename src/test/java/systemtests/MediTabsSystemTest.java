@@ -20,6 +20,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
+import org.testfx.util.WaitForAsyncUtils;
 
 import guitests.guihandles.CommandBoxHandle;
 import guitests.guihandles.InformationPanelHandle;
@@ -131,6 +132,9 @@ public abstract class MediTabsSystemTest {
 
         mainWindowHandle.getCommandBox().run(command);
 
+        // Waits for the inventory to be saved and the status bar to show the result of the save.
+        testApp.flushInventory();
+        WaitForAsyncUtils.waitForFxEvents();
     }
 
     /**
@@ -11,6 +11,7 @@ import org.junit.Test;
 import seedu.address.model.Inventory;
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JournalInventoryStorage;
 import seedu.address.testutil.TestUtil;
 
 public class SampleDataTest extends MediTabsSystemTest {
@@ -29,6 +30,7 @@ public class SampleDataTest extends MediTabsSystemTest {
     protected Path getDataFileLocation() {
         Path filePath = TestUtil.getFilePathInSandboxFolder("SomeFileThatDoesNotExist1234567890.xml");
         deleteFileIfExists(filePath);
+        deleteFileIfExists(JournalInventoryStorage.getJournalPath(filePath));
         return filePath;
     }
 